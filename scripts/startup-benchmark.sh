@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request for the plain jar and for the fast-startup build.
+#
+#   ./mvnw -Pfast-startup -DskipTests package
+#   scripts/startup-benchmark.sh [runs]
+#
+# Needs the PostgreSQL instance from application.properties. Each run starts the app,
+# polls /users/ping until it answers and prints the wall-clock time plus the
+# startup.ready / startup.first-request uptimes logged by StartupTimeReporter.
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+JAR=target/devvault-0.0.1-SNAPSHOT.jar
+FAST_DIR=target/fast-startup
+FAST_JAR=$FAST_DIR/devvault-0.0.1-SNAPSHOT.jar
+
+measure() {
+  local label=$1; shift
+  local total=0
+  for i in $(seq 1 "$RUNS"); do
+    local log; log=$(mktemp)
+    local start; start=$(date +%s%N)
+    "$@" --server.port="$PORT" >"$log" 2>&1 &
+    local pid=$!
+    until curl -sf "http://localhost:$PORT/users/ping" >/dev/null; do
+      if ! kill -0 "$pid" 2>/dev/null; then echo "$label: app exited, see $log"; exit 1; fi
+      sleep 0.02
+    done
+    local end; end=$(date +%s%N)
+    local ms=$(( (end - start) / 1000000 ))
+    total=$(( total + ms ))
+    local ready; ready=$(grep -o 'startup.ready uptime=[0-9]*' "$log" | grep -o '[0-9]*$' || true)
+    sleep 0.2
+    local first; first=$(grep -o 'startup.first-request uptime=[0-9]*' "$log" | grep -o '[0-9]*$' || true)
+    printf '%-12s run %d: first response after %5d ms (ready=%sms, first-request=%sms)\n' "$label" "$i" "$ms" "$ready" "$first"
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+  done
+  printf '%-12s mean: %d ms\n' "$label" $(( total / RUNS ))
+}
+
+measure "plain" java -jar "$JAR"
+
+if [[ -f $FAST_JAR ]]; then
+  measure "aot+cds" java -XX:SharedArchiveFile="$FAST_DIR/application.jsa" -Dspring.aot.enabled=true -jar "$FAST_JAR"
+else
+  echo "No fast-startup build found; run ./mvnw -Pfast-startup -DskipTests package first"
+fi
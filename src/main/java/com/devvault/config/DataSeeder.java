@@ -3,43 +3,54 @@ package com.devvault.config;
 import com.devvault.model.Role;
 import com.devvault.model.User;
 import com.devvault.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
+import java.util.Set;
 
+@Slf4j
 @Configuration
 public class DataSeeder {
 
+    private record SeedUser(String username, String email, String password, Role role) {}
+
+    private static final List<SeedUser> SEED_USERS = List.of(
+            new SeedUser("admin", "admin@example.com", "admin123", Role.ADMIN),
+            new SeedUser("Admin User", "admin@devvault.com", "admin123", Role.ADMIN),
+            new SeedUser("Dev One", "dev1@devvault.com", "dev123", Role.DEVELOPER),
+            new SeedUser("Dev Two", "dev2@devvault.com", "dev123", Role.DEVELOPER)
+    );
+
+    // Checked at runtime (not via @ConditionalOnProperty) so it still works with AOT-processed builds
+    @Value("${devvault.seed.enabled:false}")
+    private boolean seedEnabled;
+
+    // Opt-in and idempotent: one query finds which seed users exist, only the missing ones are hashed and inserted
     @Bean
     public CommandLineRunner seedUsers(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         return args -> {
-            if (userRepository.count() == 0) {
-                User admin = User.builder()
-                        .username("Admin User")
-                        .email("admin@devvault.com")
-                        .password(passwordEncoder.encode("admin123"))
-                        .role(Role.ADMIN)
-                        .build();
-
-                User dev1 = User.builder()
-                        .username("Dev One")
-                        .email("dev1@devvault.com")
-                        .password(passwordEncoder.encode("dev123"))
-                        .role(Role.DEVELOPER)
-                        .build();
-
-                User dev2 = User.builder()
-                        .username("Dev Two")
-                        .email("dev2@devvault.com")
-                        .password(passwordEncoder.encode("dev123"))
-                        .role(Role.DEVELOPER)
-                        .build();
-
-                userRepository.saveAll(List.of(admin, dev1, dev2));
-                System.out.println("✅ Seeded initial users.");
+            if (!seedEnabled) {
+                return;
+            }
+            Set<String> existing = userRepository.findExistingEmails(SEED_USERS.stream().map(SeedUser::email).toList());
+            List<User> missing = SEED_USERS.stream()
+                    .filter(seed -> !existing.contains(seed.email()))
+                    .map(seed -> User.builder()
+                            .username(seed.username())
+                            .email(seed.email())
+                            .password(passwordEncoder.encode(seed.password()))
+                            .role(seed.role())
+                            .build())
+                    .toList();
+
+            if (!missing.isEmpty()) {
+                userRepository.saveAll(missing);
+                log.info("✅ Seeded {} initial users.", missing.size());
             }
         };
     }
@@ -0,0 +1,84 @@
+package com.devvault.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache, backed by Caffeine through JCache. Only the regions created here
+ * exist (a mapping naming any other region fails at startup), each bounded in entries and
+ * expiring after its TTL, so a write that went around Hibernate is visible within that TTL.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USERS = "users";
+    public static final String USERS_BY_EMAIL = "users-by-email";
+    public static final String LEADERBOARD = "leaderboard";
+
+    // Hibernate's own regions: query results without an explicit region, last write per table
+    private static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    @Value("${devvault.cache.enabled:true}")
+    private boolean enabled;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${devvault.cache.users.max-entries:10000}") long usersMaxEntries,
+            @Value("${devvault.cache.users.ttl:10m}") Duration usersTtl,
+            @Value("${devvault.cache.users-by-email.max-entries:10000}") long usersByEmailMaxEntries,
+            @Value("${devvault.cache.users-by-email.ttl:10m}") Duration usersByEmailTtl,
+            @Value("${devvault.cache.leaderboard.max-entries:16}") long leaderboardMaxEntries,
+            @Value("${devvault.cache.leaderboard.ttl:1m}") Duration leaderboardTtl) {
+        // One manager per application context (tests start several); the URI also names its JMX beans
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("devvault-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(USERS, region(usersMaxEntries, usersTtl));
+        cacheManager.createCache(USERS_BY_EMAIL, region(usersByEmailMaxEntries, usersByEmailTtl));
+        cacheManager.createCache(LEADERBOARD, region(leaderboardMaxEntries, leaderboardTtl));
+        cacheManager.createCache(DEFAULT_QUERY_RESULTS, region(100L, Duration.ofMinutes(1)));
+        // One entry per table; must outlive every query result, so never expired
+        cacheManager.createCache(UPDATE_TIMESTAMPS, region(null, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    // Stored by reference: Hibernate already caches disassembled state, copying it again buys nothing
+    private static CaffeineConfiguration<Object, Object> region(Long maxEntries, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maxEntries != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
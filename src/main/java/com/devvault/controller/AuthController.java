@@ -1,12 +1,16 @@
 package com.devvault.controller;
 
 import com.devvault.dto.UserLoginDTO;
-import com.devvault.model.User;
 import com.devvault.repository.UserRepository;
+import com.devvault.security.JwtAuthenticationToken;
 import com.devvault.security.JwtUtil;
+import com.devvault.security.TokenRevocationService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,20 +29,34 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody UserLoginDTO loginDto) {
         String email = loginDto.getEmail();
         String password = loginDto.getPassword();
 
-        User user = userRepository.findByEmail(email)
+        UserRepository.Credentials credentials = userRepository.findCredentialsByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Invalid email or password"));
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordEncoder.matches(password, credentials.getPassword())) {
             return ResponseEntity.status(401).body("Invalid email or password");
         }
 
-        String token = jwtUtil.generateToken(email, user.getRole().name());
+        String token = jwtUtil.generateToken(email, credentials.getRole().name());
 
         return ResponseEntity.ok(Map.of("token", token));
     }
+
+    // 🔐 Revoke the token used for this request
+    @PostMapping("/logout")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<String> logout() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth instanceof JwtAuthenticationToken jwtAuth) {
+            tokenRevocationService.revokeToken(jwtAuth);
+        }
+        return ResponseEntity.ok("Logged out successfully.");
+    }
 }
@@ -1,26 +1,56 @@
 package com.devvault.controller;
 
+import com.devvault.dto.BatchResponse;
+import com.devvault.dto.BulkIssueRequest;
+import com.devvault.dto.BulkOperationResponse;
+import com.devvault.dto.FilterPage;
 import com.devvault.dto.IssueDTO;
+import com.devvault.eventlog.IssueEvent;
+import com.devvault.eventlog.IssueEventLog;
+import com.devvault.eventlog.IssueEventType;
+import com.devvault.exception.BadRequestException;
 import com.devvault.exception.ResourceNotFoundException;
+import com.devvault.model.CountStrategy;
+import com.devvault.model.Difficulty;
 import com.devvault.model.Issue;
 import com.devvault.model.IssueStatus;
+import com.devvault.model.IssueView;
 import com.devvault.model.User;
+import com.devvault.outbox.OutboxEvents;
+import com.devvault.outbox.OutboxService;
 import com.devvault.repository.IssueRepository;
 import com.devvault.repository.UserRepository;
+import com.devvault.search.DuplicateCandidate;
+import com.devvault.search.DuplicateIndex;
+import com.devvault.search.IssueIndexer;
+import com.devvault.search.IssueSuggestion;
+import com.devvault.search.TitlePrefixIndex;
+import com.devvault.service.BulkIssueService;
+import com.devvault.service.IssueArchiveService;
+import com.devvault.service.IssueCountService;
+import com.devvault.service.ProjectionService;
+import com.devvault.service.UserDashboardService;
 import jakarta.validation.Valid;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.devvault.util.Transactions.afterCommit;
+
 @RestController
 @RequestMapping("/issues")
-@Slf4j
 public class IssueController {
 
     @Autowired
@@ -29,18 +59,48 @@ public class IssueController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private IssueEventLog issueEventLog;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private IssueArchiveService issueArchiveService;
+
+    @Autowired
+    private BulkIssueService bulkIssueService;
+
+    @Autowired
+    private IssueCountService issueCountService;
+
+    @Autowired
+    private UserDashboardService userDashboardService;
+
+    @Autowired
+    private DuplicateIndex duplicateIndex;
+
+    @Autowired
+    private IssueIndexer issueIndexer;
+
+    @Autowired
+    private TitlePrefixIndex titlePrefixIndex;
+
+    @Value("${devvault.dedup.max-results:5}")
+    private int maxDuplicates;
+
+    @Autowired
+    private ProjectionService projectionService;
+
     // 🔐 Create new issue - auto assign to logged-in user (USER role)
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @PostMapping
+    @Transactional
     public ResponseEntity<Issue> createIssue(@Valid @RequestBody IssueDTO dto) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        log.info("Creating issue for user with email: {}", email);
 
         User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    log.warn("User not found with email: {}", email);
-                    return new ResourceNotFoundException("User not found");
-                });
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
 
         Issue issue = new Issue();
         issue.setTitle(dto.getTitle());
@@ -49,110 +109,184 @@ public class IssueController {
         issue.setStatus(IssueStatus.CLAIMED); // default on creation
         issue.setAssignedTo(user);
 
+        // Checked before saving so the new issue doesn't match itself
+        List<DuplicateCandidate> duplicates = duplicateIndex.findSimilar(dto.getTitle(), dto.getDescription(), maxDuplicates);
+
         Issue savedIssue = issueRepository.save(issue);
-        log.info("Issue created with ID: {}", savedIssue.getId());
-        return ResponseEntity.ok(savedIssue);
+        issueIndexer.indexed(savedIssue);
+        issueCountService.added(savedIssue);
+        userDashboardService.added(savedIssue);
+        String createdDetail = savedIssue.getDifficulty() + ", assigned to user " + user.getId();
+        afterCommit(() -> issueEventLog.record(savedIssue.getId(), IssueEventType.CREATED, email, createdDetail));
+        if (duplicates.isEmpty()) {
+            return ResponseEntity.ok(savedIssue);
+        }
+        // The body stays the created issue; likely duplicates are listed in a header, most similar first
+        return ResponseEntity.ok()
+                .header("X-Possible-Duplicates", duplicates.stream()
+                        .map(candidate -> String.valueOf(candidate.issueId()))
+                        .collect(Collectors.joining(",")))
+                .body(savedIssue);
     }
 
 
-    // ✅ Filter + Pagination: GET /issues/filter?status=OPEN&difficulty=EASY&page=0&size=5
+    // ✅ Filter + Pagination: GET /issues/filter?status=OPEN&difficulty=EASY&page=0&size=5&count=cached
+    // count = exact (default, COUNT query) | cached (in-memory counters) | estimated (planner estimate);
+    // the page's totalApproximate tells whether totalElements is an estimate
     @GetMapping("/filter")
-    public ResponseEntity<Page<Issue>> filterIssues(
+    public ResponseEntity<FilterPage<? extends IssueView>> filterIssues(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String difficulty,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count) {
 
         Pageable pageable = PageRequest.of(page, size);
-        log.info("Filtering issues: status={}, difficulty={}, page={}, size={}", status, difficulty, page, size);
-
-        if (status != null && difficulty != null) {
-            return ResponseEntity.ok(issueRepository.findByStatusIgnoreCaseAndDifficultyIgnoreCase(status, difficulty, pageable));
-        } else if (status != null) {
-            return ResponseEntity.ok(issueRepository.findByStatusIgnoreCase(status, pageable));
-        } else if (difficulty != null) {
-            return ResponseEntity.ok(issueRepository.findByDifficultyIgnoreCase(difficulty, pageable));
+
+        IssueStatus statusFilter = parseEnum(IssueStatus.class, status);
+        Difficulty difficultyFilter = parseEnum(Difficulty.class, difficulty);
+        CountStrategy countStrategy = parseEnum(CountStrategy.class, count);
+
+        if (statusFilter == IssueStatus.CLOSED) {
+            // Closed issues may already have been archived
+            return ResponseEntity.ok(issueArchiveService.findClosed(difficultyFilter, pageable, countStrategy));
+        }
+        List<Issue> content;
+        if (statusFilter != null && difficultyFilter != null) {
+            content = issueRepository.findListByStatusAndDifficulty(statusFilter, difficultyFilter, pageable);
+        } else if (statusFilter != null) {
+            content = issueRepository.findListByStatus(statusFilter, pageable);
+        } else if (difficultyFilter != null) {
+            content = issueRepository.findListByDifficulty(difficultyFilter, pageable);
         } else {
-            return ResponseEntity.ok(issueRepository.findAll(pageable));
+            content = issueRepository.findList(pageable);
         }
+        return ResponseEntity.ok(issueCountService.page(content, pageable, statusFilter, difficultyFilter, countStrategy));
+    }
+
+    // ✅ Same filter with a sparse fieldset: GET /issues/filter?status=OPEN&fields=title,status
+    @GetMapping(value = "/filter", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> filterIssueFields(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String difficulty,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String fields) {
+
+        IssueStatus statusFilter = parseEnum(IssueStatus.class, status);
+        Difficulty difficultyFilter = parseEnum(Difficulty.class, difficulty);
+        if (statusFilter == IssueStatus.CLOSED) {
+            return ResponseEntity.ok(issueArchiveService.findClosedFields(difficultyFilter, PageRequest.of(page, size),
+                    fields));
+        }
+        Specification<Issue> where = (root, query, cb) -> cb.and(
+                statusFilter != null ? cb.equal(root.get("status"), statusFilter) : cb.conjunction(),
+                difficultyFilter != null ? cb.equal(root.get("difficulty"), difficultyFilter) : cb.conjunction());
+        return ResponseEntity.ok(projectionService.findAll(Issue.class, where, PageRequest.of(page, size), fields));
+    }
+
+    // 🔓 Get issue by ID (live or archived) with a sparse fieldset: GET /issues/5?fields=title,status
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getIssueFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return ResponseEntity.ok(issueArchiveService.findFieldsById(id, fields)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + id)));
     }
 
-    // 🔓 Get issue by ID - public
+    // 🔓 Multi-get (live or archived) with a sparse fieldset: GET /issues?ids=3,1&fields=title
+    @GetMapping(params = {"ids", "fields"})
+    public ResponseEntity<BatchResponse<Map<String, Object>>> getIssueFieldsByIds(@RequestParam List<Long> ids,
+                                                                                @RequestParam String fields) {
+        return ResponseEntity.ok(issueArchiveService.findFieldsByIds(ids, fields));
+    }
+
+    // 🔓 Title autocomplete, newest first: GET /issues/suggest?prefix=login but&limit=10
+    @GetMapping("/suggest")
+    public ResponseEntity<List<IssueSuggestion>> suggestIssues(@RequestParam String prefix,
+                                                               @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(titlePrefixIndex.suggest(prefix, Math.min(Math.max(limit, 1), 50)));
+    }
+
+    // 🔓 Get issue by ID (live or archived) - public
     @GetMapping("/{id}")
-    public ResponseEntity<Issue> getIssueById(@PathVariable Long id) {
-        log.info("Fetching issue with ID: {}", id);
-        Issue issue = issueRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Issue not found with ID: {}", id);
-                    return new ResourceNotFoundException("Issue not found with ID: " + id);
-                });
+    public ResponseEntity<IssueView> getIssueById(@PathVariable Long id) {
+        IssueView issue = issueArchiveService.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + id));
         return ResponseEntity.ok(issue);
     }
 
+    // 🔓 Get several issues by ID in one round-trip - GET /issues?ids=3,1,7
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResponse<IssueView>> getIssuesByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(issueArchiveService.findByIds(ids));
+    }
+
     // 🔐 Assign issue to any user - only ADMIN
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{issueId}/assign/{userId}")
+    @Transactional
     public ResponseEntity<Issue> assignIssueToUser(@PathVariable Long issueId, @PathVariable Long userId) {
-        log.info("Assigning issue ID {} to user ID {}", issueId, userId);
-
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> {
-                    log.warn("Issue not found with ID: {}", issueId);
-                    return new ResourceNotFoundException("Issue not found");
-                });
+        Issue issue = issueRepository.findByIdForUpdate(issueId)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + issueId));
 
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.warn("User not found with ID: {}", userId);
-                    return new ResourceNotFoundException("User not found");
-                });
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
 
+        IssueStatus prevStatus = issue.getStatus();
+        Long prevAssigneeId = issue.getAssignedTo() != null ? issue.getAssignedTo().getId() : null;
         issue.setAssignedTo(user);
         issue.setStatus(IssueStatus.CLAIMED);
         Issue updated = issueRepository.save(issue);
-        log.info("Issue ID {} assigned to user ID {}", issueId, userId);
+        issueCountService.changed(prevStatus, updated.getDifficulty(), updated);
+        userDashboardService.changed(prevAssigneeId, prevStatus, updated);
+        String actor = currentActor();
+        afterCommit(() -> issueEventLog.record(issueId, IssueEventType.ASSIGNED, actor, "assigned to user " + userId));
         return ResponseEntity.ok(updated);
     }
 
     // 🔐 Update issue - only assigned user or ADMIN
     @PreAuthorize("hasRole('ADMIN') or @issueSecurity.isOwner(#id)")
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<Issue> updateIssue(@PathVariable Long id, @Valid @RequestBody IssueDTO dto) {
-        log.info("Updating issue ID {}", id);
-
-        Issue issue = issueRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Issue not found with ID: {}", id);
-                    return new ResourceNotFoundException("Issue not found");
-                });
+        // Locked: of two concurrent closes, the second waits and then sees CLOSED, so the reward is queued once
+        Issue issue = issueRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + id));
 
+        IssueStatus prevStatus = issue.getStatus();
+        Difficulty prevDifficulty = issue.getDifficulty();
         issue.setTitle(dto.getTitle());
         issue.setDescription(dto.getDescription());
         issue.setDifficulty(dto.getDifficulty());
 
-        IssueStatus prevStatus = issue.getStatus();
         IssueStatus newStatus = dto.getStatus();
+        IssueEventType eventType = prevStatus != newStatus ? IssueEventType.STATUS_CHANGED : IssueEventType.UPDATED;
+        String eventDetail = prevStatus + " -> " + newStatus;
 
         if (prevStatus != IssueStatus.CLOSED && newStatus == IssueStatus.CLOSED) {
             issue.setStatus(IssueStatus.CLOSED);
+            eventType = IssueEventType.CLOSED;
 
             User assignee = issue.getAssignedTo();
             if (assignee != null) {
-                int reward = switch (issue.getDifficulty()) {
-                    case EASY -> 10;
-                    case MEDIUM -> 20;
-                    case HARD -> 30;
-                };
-                assignee.setRewardPoints(assignee.getRewardPoints() + reward);
-                userRepository.save(assignee);
-                log.info("Issue closed. Reward {} points to user {}", reward, assignee.getId());
+                int reward = issue.getDifficulty().getReward();
+                issue.setRewardPoints(reward);
+                // 🔸 Crediting happens in the background (RewardCreditHandler); only the outbox row is written here
+                outboxService.enqueue("Issue", id, OutboxEvents.ISSUE_CLOSED,
+                        Map.of("userId", assignee.getId(), "points", reward, "closedAt", System.currentTimeMillis()));
+                eventDetail += ", reward " + reward + " to user " + assignee.getId();
             }
         } else {
             issue.setStatus(newStatus);
         }
 
         Issue saved = issueRepository.save(issue);
-        log.info("Issue ID {} updated successfully", id);
+        issueIndexer.indexed(saved);
+        issueCountService.changed(prevStatus, prevDifficulty, saved);
+        userDashboardService.changed(saved.getAssignedTo() != null ? saved.getAssignedTo().getId() : null, prevStatus, saved);
+        IssueEventType recordedType = eventType;
+        String recordedDetail = eventDetail;
+        String actor = currentActor();
+        afterCommit(() -> issueEventLog.record(id, recordedType, actor, recordedDetail));
         return ResponseEntity.ok(saved);
     }
 
@@ -160,14 +294,79 @@ public class IssueController {
     // 🔐 Delete issue - only assigned user or ADMIN
     @PreAuthorize("hasRole('ADMIN') or @issueSecurity.isOwner(#id)")
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<String> deleteIssue(@PathVariable Long id) {
-        log.info("Deleting issue ID: {}", id);
-        if (!issueRepository.existsById(id)) {
-            log.warn("Issue not found with ID: {}", id);
-            throw new ResourceNotFoundException("Issue not found with ID: " + id);
-        }
-        issueRepository.deleteById(id);
-        log.info("Issue ID {} deleted", id);
+        Issue issue = issueRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + id));
+        issueRepository.delete(issue);
+        issueIndexer.removed(List.of(id));
+        issueCountService.removed(issue);
+        userDashboardService.removed(issue);
+        String actor = currentActor();
+        afterCommit(() -> issueEventLog.record(id, IssueEventType.DELETED, actor, "deleted"));
         return ResponseEntity.ok("Issue deleted successfully.");
     }
+
+    // 🔐 Bulk operations - ADMIN only. Body: {"ids": [...]} or {"filter": {"status", "difficulty", "assigneeId"}}
+    // POST /issues/bulk/assign {"userId": 4, ...}
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/assign")
+    public ResponseEntity<BulkOperationResponse> bulkAssign(@RequestBody BulkIssueRequest request) {
+        return ResponseEntity.ok(bulkIssueService.assign(request, currentActor()));
+    }
+
+    // POST /issues/bulk/status {"status": "CLOSED", ...} - closing credits rewards like a single close
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/status")
+    public ResponseEntity<BulkOperationResponse> bulkChangeStatus(@RequestBody BulkIssueRequest request) {
+        return ResponseEntity.ok(bulkIssueService.changeStatus(request, currentActor()));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkOperationResponse> bulkDelete(@RequestBody BulkIssueRequest request) {
+        return ResponseEntity.ok(bulkIssueService.delete(request, currentActor()));
+    }
+
+    // 🔓 Likely duplicates of an issue, most similar first
+    @GetMapping("/{id}/duplicates")
+    public ResponseEntity<List<DuplicateCandidate>> getDuplicates(@PathVariable Long id) {
+        return ResponseEntity.ok(duplicateIndex.findSimilar(id, maxDuplicates));
+    }
+
+    // 🔐 Groups of near-duplicate issues, largest first - ADMIN only
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/duplicates/clusters")
+    public ResponseEntity<List<List<Long>>> getDuplicateClusters(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(duplicateIndex.clusters(Math.max(limit, 1)));
+    }
+
+    // 🔐 History of one issue from the event log, oldest first - only assigned user or ADMIN
+    @PreAuthorize("hasRole('ADMIN') or @issueSecurity.isOwner(#id)")
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<IssueEvent>> getIssueHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(issueEventLog.history(id));
+    }
+
+    // 🔐 Replay the event log in order: GET /issues/events?fromOffset=0&limit=100 - only ADMIN
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/events")
+    public ResponseEntity<List<IssueEvent>> replayEvents(@RequestParam(defaultValue = "0") long fromOffset,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(issueEventLog.replay(fromOffset, Math.min(Math.max(limit, 1), 1000)));
+    }
+
+    // Enum columns can't be matched with IgnoreCase, so normalize the request values instead
+    // An unknown value is the caller's mistake: 400, same as the reactive read tier
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return value != null ? Enum.valueOf(type, value.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid " + type.getSimpleName() + ": " + value);
+        }
+    }
+
+    private static String currentActor() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
 }
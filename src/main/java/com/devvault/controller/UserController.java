@@ -1,10 +1,18 @@
 package com.devvault.controller;
 
+import com.devvault.dto.BatchResponse;
+import com.devvault.exception.BadRequestException;
 import com.devvault.exception.ResourceNotFoundException;
+import com.devvault.model.LeaderboardWindow;
 import com.devvault.model.Role;
 import com.devvault.model.User;
 import com.devvault.repository.UserRepository;
-import lombok.extern.slf4j.Slf4j;
+import com.devvault.security.TokenRevocationService;
+import com.devvault.service.BatchLoader;
+import com.devvault.service.ProjectionService;
+import com.devvault.service.LeaderboardService;
+import com.devvault.service.UserCacheService;
+import com.devvault.service.UserDashboardService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,11 +24,12 @@ import com.devvault.dto.UserDTO;
 import jakarta.validation.Valid;
 import com.devvault.dto.UserUpdateDTO;
 import com.devvault.dto.UserResponseDTO;
+import com.devvault.dto.UserDashboardDTO;
 import com.devvault.util.DtoConverter;
 
 import java.util.List;
+import java.util.Map;
 
-@Slf4j
 @RestController
 @RequestMapping("/users")
 public class UserController {
@@ -31,6 +40,24 @@ public class UserController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private BatchLoader batchLoader;
+
+    @Autowired
+    private ProjectionService projectionService;
+
+    @Autowired
+    private UserDashboardService userDashboardService;
+
+    @Autowired
+    private UserCacheService userCacheService;
+
     // 🔐 Create a new user - ADMIN only
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
@@ -57,6 +84,28 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    // 🔐 Get all users with a sparse fieldset: GET /users?fields=username,rewardPoints - ADMIN only
+    @GetMapping(params = "fields")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<Map<String, Object>>> getAllUserFields(@RequestParam String fields) {
+        return ResponseEntity.ok(projectionService.findAll(User.class, fields));
+    }
+
+    // 🔐 Get user by ID with a sparse fieldset - ADMIN only
+    @GetMapping(value = "/{id}", params = "fields")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getUserFields(@PathVariable Long id, @RequestParam String fields) {
+        return ResponseEntity.ok(projectionService.findById(User.class, id, fields));
+    }
+
+    // 🔐 Multi-get with a sparse fieldset - ADMIN only
+    @GetMapping(params = {"ids", "fields"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BatchResponse<Map<String, Object>>> getUserFieldsByIds(@RequestParam List<Long> ids,
+                                                                               @RequestParam String fields) {
+        return ResponseEntity.ok(projectionService.findByIds(User.class, ids, fields));
+    }
+
     // 🔐 Get user by ID - ADMIN only
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -66,6 +115,15 @@ public class UserController {
         return ResponseEntity.ok(DtoConverter.toUserResponse(user));
     }
 
+    // 🔐 Get several users by ID in one round-trip - ADMIN only
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BatchResponse<UserResponseDTO>> getUsersByIds(@RequestParam List<Long> ids) {
+        BatchResponse<User> users = batchLoader.loadByIds(User.class, ids);
+        return ResponseEntity.ok(new BatchResponse<>(
+                users.getItems().stream().map(DtoConverter::toUserResponse).toList(), users.getMissing()));
+    }
+
     // 🔐 Update user by ID (Upsert style) - ADMIN only
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -75,6 +133,12 @@ public class UserController {
     ) {
         return userRepository.findById(id)
                 .map(user -> {
+                    // Outstanding tokens carry the old role/email, so they must stop working
+                    Role newRole = Role.valueOf(dto.getRole().toUpperCase());
+                    if (user.getRole() != newRole || !user.getEmail().equals(dto.getEmail())) {
+                        tokenRevocationService.revokeSubject(user.getEmail());
+                    }
+                    String oldEmail = user.getEmail();
                     user.setUsername(dto.getUsername());
                     user.setEmail(dto.getEmail());
                     user.setRole(Role.valueOf(dto.getRole().toUpperCase()));
@@ -82,7 +146,11 @@ public class UserController {
                     if (dto.getPassword() != null && !dto.getPassword().isEmpty()) {
                         user.setPassword(passwordEncoder.encode(dto.getPassword()));
                     }
-                    return ResponseEntity.ok(DtoConverter.toUserResponse(userRepository.save(user)));
+                    User saved = userRepository.save(user);
+                    userCacheService.changed(saved.getId());
+                    // After the save: no transaction here, so the eviction runs at once
+                    userDashboardService.evict(saved.getId(), oldEmail);
+                    return ResponseEntity.ok(DtoConverter.toUserResponse(saved));
                 })
                 .orElseGet(() -> {
                     User newUser = new User();
@@ -99,24 +167,26 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteUser(@PathVariable Long id) {
-        log.info("Deleting user with ID: {}", id);
-        if (!userRepository.existsById(id)) {
-            log.warn("Attempt to delete non-existent user with ID: {}", id);
-            throw new ResourceNotFoundException("User not found with ID: " + id);
-        }
-        userRepository.deleteById(id);
-        log.info("User deleted with ID: {}", id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
+        tokenRevocationService.revokeSubject(user.getEmail());
+        userRepository.delete(user);
+        userCacheService.changed(id);
+        userDashboardService.evict(id, user.getEmail());
         return ResponseEntity.ok("User deleted successfully.");
     }
 
-    // 🔓 Get leaderboard - top 10 users by rewardPoints
+    // 🔓 Get leaderboard - top 10 users by rewardPoints: GET /users/leaderboard?window=weekly
+    // window = all (default, lifetime points) | daily | weekly | monthly (points earned in the window)
     @GetMapping("/leaderboard")
-    public ResponseEntity<List<UserResponseDTO>> getLeaderboard() {
-        List<User> topUsers = userRepository.findTop10ByOrderByRewardPointsDesc();
-        List<UserResponseDTO> response = topUsers.stream()
-                .map(DtoConverter::toUserResponse)
-                .toList();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<UserResponseDTO>> getLeaderboard(@RequestParam(defaultValue = "all") String window) {
+        LeaderboardWindow leaderboardWindow;
+        try {
+            leaderboardWindow = LeaderboardWindow.valueOf(window.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid window: " + window);
+        }
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(leaderboardWindow));
     }
 
     // 🔐 Get current logged-in user's profile
@@ -129,6 +199,14 @@ public class UserController {
         return ResponseEntity.ok(DtoConverter.toUserResponse(user));
     }
 
+    // 🔐 Current user's issue counts by status, reward points and most recent issues
+    @GetMapping("/me/dashboard")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<UserDashboardDTO> getCurrentUserDashboard() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(userDashboardService.getDashboard(email));
+    }
+
 
     @GetMapping("/ping")
     public ResponseEntity<String> ping() {
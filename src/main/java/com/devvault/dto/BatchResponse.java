@@ -0,0 +1,14 @@
+package com.devvault.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// Result of a multi-get: items in request order, plus the requested ids that don't exist
+@Data
+@AllArgsConstructor
+public class BatchResponse<T> {
+    private List<T> items;
+    private List<Long> missing;
+}
@@ -0,0 +1,33 @@
+package com.devvault.dto;
+
+import com.devvault.model.Difficulty;
+import com.devvault.model.IssueStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Target of a bulk operation: either an explicit id list or a filter (not both).
+ * userId is the new assignee for /bulk/assign, status the new status for /bulk/status.
+ */
+@Getter
+@Setter
+public class BulkIssueRequest {
+
+    private List<Long> ids;
+
+    private Filter filter;
+
+    private Long userId;
+
+    private IssueStatus status;
+
+    @Getter
+    @Setter
+    public static class Filter {
+        private IssueStatus status;
+        private Difficulty difficulty;
+        private Long assigneeId;
+    }
+}
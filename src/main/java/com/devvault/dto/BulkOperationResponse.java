@@ -0,0 +1,14 @@
+package com.devvault.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// affected = rows actually changed; rewardPoints = points queued for crediting (bulk close only)
+@Data
+@AllArgsConstructor
+public class BulkOperationResponse {
+    private String operation;
+    private long affected;
+    private int chunks;
+    private long rewardPoints;
+}
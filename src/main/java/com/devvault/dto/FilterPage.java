@@ -0,0 +1,21 @@
+package com.devvault.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+// Page of a filter whose total may come from an estimate; totalApproximate says so
+public class FilterPage<T> extends PageImpl<T> {
+
+    private final boolean totalApproximate;
+
+    public FilterPage(List<T> content, Pageable pageable, long total, boolean totalApproximate) {
+        super(content, pageable, total);
+        this.totalApproximate = totalApproximate;
+    }
+
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+}
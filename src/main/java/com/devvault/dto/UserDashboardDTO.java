@@ -0,0 +1,27 @@
+package com.devvault.dto;
+
+import com.devvault.model.Difficulty;
+import com.devvault.model.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// GET /users/me/dashboard; counts include archived issues, recentIssues only live ones (newest first)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDashboardDTO {
+    private Long userId;
+    private String username;
+    private int rewardPoints;
+    private int openIssues;
+    private int claimedIssues;
+    private int closedIssues;
+    private List<RecentIssue> recentIssues;
+
+    public record RecentIssue(Long id, String title, IssueStatus status, Difficulty difficulty,
+                              LocalDateTime updatedAt) {}
+}
@@ -0,0 +1,16 @@
+package com.devvault.eventlog;
+
+import java.time.Instant;
+
+/**
+ * One entry of the issue history log.
+ *
+ * @param offset    position in the log (monotonic, never reused)
+ * @param issueId   issue the event belongs to
+ * @param type      what happened
+ * @param timestamp when it was appended
+ * @param actor     email of the user who triggered it
+ * @param detail    short free-form detail, e.g. "CLAIMED -> CLOSED, reward 20 to user 4"
+ */
+public record IssueEvent(long offset, long issueId, IssueEventType type, Instant timestamp, String actor, String detail) {
+}
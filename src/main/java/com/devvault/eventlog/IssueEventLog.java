@@ -0,0 +1,381 @@
+package com.devvault.eventlog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append-only history of issue transitions, kept outside Postgres in memory-mapped segment
+ * files ({@code <baseOffset>.log}) that roll at a fixed size.
+ *
+ * Appends are a memcpy into the active segment under a short lock. Durability uses group
+ * commit: a background flusher msyncs the segment every flush interval and completes the
+ * futures of all appends covered by that flush, so concurrent writers share one fsync.
+ * Retention drops whole segments older than the retention period.
+ *
+ * History reads use an in-heap index of offsets per issue, bounded to index-max-issues issues
+ * (the cache evicts the rest). An issue missing from it, or whose entry was started after some
+ * of its events (evicted, or first seen mid-log), is completed by one scan of the older segments.
+ */
+@Slf4j
+@Component
+public class IssueEventLog {
+
+    private static final int MAX_FIELD_BYTES = 1024;
+    // A segment is one MappedByteBuffer, which is int-indexed
+    private static final int MAX_SEGMENT_SIZE_MB = 2047;
+    private static final int SCAN_BATCH = 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration flushInterval;
+    private final Duration retention;
+    private final boolean awaitFlush;
+
+    private final ConcurrentSkipListMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+    private final Cache<Long, IssueOffsets> offsetsByIssue;
+    private final Object writeLock = new Object();
+    private List<CompletableFuture<Void>> flushWaiters = new ArrayList<>(); // guarded by writeLock
+    private boolean dirty;                                                  // guarded by writeLock
+    private LogSegment active;                                              // guarded by writeLock
+    private ScheduledExecutorService flusher;
+
+    public IssueEventLog(@Value("${devvault.eventlog.dir:data/issue-events}") Path directory,
+                         @Value("${devvault.eventlog.segment-size-mb:64}") int segmentSizeMb,
+                         @Value("${devvault.eventlog.flush-interval:10ms}") Duration flushInterval,
+                         @Value("${devvault.eventlog.retention:90d}") Duration retention,
+                         @Value("${devvault.eventlog.await-flush:false}") boolean awaitFlush,
+                         @Value("${devvault.eventlog.index-max-issues:100000}") int indexMaxIssues) {
+        if (segmentSizeMb < 1 || segmentSizeMb > MAX_SEGMENT_SIZE_MB) {
+            throw new IllegalArgumentException("devvault.eventlog.segment-size-mb must be between 1 and "
+                    + MAX_SEGMENT_SIZE_MB + ", was " + segmentSizeMb);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.flushInterval = flushInterval;
+        this.retention = retention;
+        this.awaitFlush = awaitFlush;
+        this.offsetsByIssue = Caffeine.newBuilder().maximumSize(indexMaxIssues).build();
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(p -> p.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+        for (Path file : files) {
+            long baseOffset = Long.parseLong(file.getFileName().toString().replace(".log", ""));
+            segments.put(baseOffset, LogSegment.open(file, baseOffset, segmentSize, this::indexEvent));
+        }
+        synchronized (writeLock) {
+            active = segments.isEmpty() ? newSegment(0) : segments.lastEntry().getValue();
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "issue-event-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMicros = Math.max(1, flushInterval.toNanos() / 1000);
+        flusher.scheduleWithFixedDelay(this::flush, intervalMicros, intervalMicros, TimeUnit.MICROSECONDS);
+        log.info("Issue event log opened at {} ({} segments, next offset {})", directory, segments.size(), nextOffset());
+    }
+
+    /** Appends an event, waiting for its group commit only if devvault.eventlog.await-flush is set. */
+    public long record(long issueId, IssueEventType type, String actor, String detail) {
+        return append(issueId, type, actor, detail, awaitFlush);
+    }
+
+    /**
+     * Appends an event and returns its offset. With {@code waitForFlush} the call blocks until the
+     * next group commit has forced it to disk; otherwise it is durable within one flush interval.
+     */
+    public long append(long issueId, IssueEventType type, String actor, String detail, boolean waitForFlush) {
+        byte[] actorBytes = truncate(actor);
+        byte[] detailBytes = truncate(detail);
+        int recordSize = LogSegment.recordSize(actorBytes, detailBytes);
+        CompletableFuture<Void> flushed = null;
+        long offset;
+        synchronized (writeLock) {
+            if (!active.hasRoomFor(recordSize)) {
+                roll();
+            }
+            offset = active.append(issueId, type, System.currentTimeMillis(), actorBytes, detailBytes);
+            index(issueId, type, offset);
+            dirty = true;
+            if (waitForFlush) {
+                flushed = new CompletableFuture<>();
+                flushWaiters.add(flushed);
+            }
+        }
+        if (flushed != null) {
+            flushed.join();
+        }
+        return offset;
+    }
+
+    /** Full history of one issue, oldest first (events before the retention horizon are gone). */
+    public List<IssueEvent> history(long issueId) {
+        IssueOffsets entry = offsetsByIssue.getIfPresent(issueId);
+        if (entry == null) {
+            synchronized (writeLock) {
+                // complete from the next offset on: later appends find the entry
+                long next = active.nextOffset();
+                entry = offsetsByIssue.get(issueId, id -> new IssueOffsets(next));
+            }
+        }
+        long from = firstOffset();
+        long to = entry.completeFrom();
+        if (to > from) {
+            // scanned outside any lock; appends only ever add offsets >= completeFrom
+            entry.prepend(scan(issueId, from, to), to, from);
+        }
+        long[] offsets = entry.snapshot();
+        List<IssueEvent> events = new ArrayList<>(offsets.length);
+        for (long offset : offsets) {
+            Map.Entry<Long, LogSegment> segment = segments.floorEntry(offset);
+            if (segment != null) {
+                events.addAll(segment.getValue().read(offset, 1));
+            }
+        }
+        return events;
+    }
+
+    /** Replays events in log order starting at {@code fromOffset}, at most {@code limit} of them. */
+    public List<IssueEvent> replay(long fromOffset, int limit) {
+        List<IssueEvent> events = new ArrayList<>(Math.min(limit, 256));
+        Long start = segments.floorKey(fromOffset);
+        if (start == null) {
+            start = segments.isEmpty() ? null : segments.firstKey();
+        }
+        if (start == null) {
+            return events;
+        }
+        for (LogSegment segment : segments.tailMap(start, true).values()) {
+            if (events.size() >= limit) {
+                break;
+            }
+            events.addAll(segment.read(Math.max(fromOffset, segment.baseOffset), limit - events.size()));
+        }
+        return events;
+    }
+
+    public long firstOffset() {
+        Map.Entry<Long, LogSegment> first = segments.firstEntry();
+        return first != null ? first.getKey() : 0;
+    }
+
+    public long nextOffset() {
+        synchronized (writeLock) {
+            return active.nextOffset();
+        }
+    }
+
+    /** Drops closed segments whose newest event is older than the retention period. */
+    @Scheduled(fixedDelayString = "${devvault.eventlog.retention-check-interval:1h}")
+    public void enforceRetention() {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        LogSegment current;
+        synchronized (writeLock) {
+            current = active;
+        }
+        boolean removed = false;
+        for (LogSegment segment : segments.values()) {
+            if (segment == current || segment.lastTimestamp() >= cutoff) {
+                break; // segments are time-ordered, so nothing newer can be expired
+            }
+            segments.remove(segment.baseOffset);
+            try {
+                segment.close();
+                Files.deleteIfExists(segment.path); // the mapping itself is released on GC
+                removed = true;
+                log.info("Deleted issue event segment {} (retention {})", segment.path.getFileName(), retention);
+            } catch (IOException e) {
+                log.warn("Could not delete issue event segment {}: {}", segment.path, e.getMessage());
+            }
+        }
+        if (removed) {
+            compactIndex(firstOffset());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flush();
+        for (LogSegment segment : segments.values()) {
+            segment.close();
+        }
+    }
+
+    // Group commit: one msync covers every append since the previous flush
+    void flush() {
+        List<CompletableFuture<Void>> waiters;
+        LogSegment segment;
+        synchronized (writeLock) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            waiters = flushWaiters;
+            flushWaiters = new ArrayList<>();
+            segment = active;
+        }
+        try {
+            segment.force();
+            waiters.forEach(waiter -> waiter.complete(null));
+        } catch (RuntimeException e) {
+            log.error("Failed to flush issue event log", e);
+            waiters.forEach(waiter -> waiter.completeExceptionally(e));
+        }
+    }
+
+    // Caller holds writeLock; the full segment is forced so its appends are durable before moving on
+    private void roll() {
+        active.force();
+        active = newSegment(active.nextOffset());
+    }
+
+    private LogSegment newSegment(long baseOffset) {
+        try {
+            LogSegment segment = LogSegment.open(LogSegment.fileName(directory, baseOffset), baseOffset, segmentSize,
+                    event -> { });
+            segments.put(baseOffset, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create issue event segment at offset " + baseOffset, e);
+        }
+    }
+
+    private void indexEvent(IssueEvent event) {
+        index(event.issueId(), event.type(), event.offset());
+    }
+
+    // Caller holds writeLock (or is recovering). A new entry is complete from this event on, or from
+    // the start if this event created the issue.
+    private void index(long issueId, IssueEventType type, long offset) {
+        offsetsByIssue.get(issueId, id -> new IssueOffsets(type == IssueEventType.CREATED ? 0 : offset)).add(offset);
+    }
+
+    // Offsets of the issue's events in [from, to), in log order
+    private long[] scan(long issueId, long from, long to) {
+        long[] found = new long[16];
+        int size = 0;
+        long position = from;
+        while (position < to) {
+            List<IssueEvent> batch = replay(position, (int) Math.min(SCAN_BATCH, to - position));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (IssueEvent event : batch) {
+                if (event.offset() < to && event.issueId() == issueId) {
+                    if (size == found.length) {
+                        found = Arrays.copyOf(found, size * 2);
+                    }
+                    found[size++] = event.offset();
+                }
+            }
+            position = batch.get(batch.size() - 1).offset() + 1;
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    // Drops offsets that fell behind the retention horizon, and issues left without any history
+    // (the index is only a cache: an entry dropped while an append raced it is rebuilt by a scan)
+    private void compactIndex(long firstOffset) {
+        offsetsByIssue.asMap().values().removeIf(entry -> entry.dropBefore(firstOffset) == 0);
+    }
+
+    /**
+     * One issue's offsets, oldest first; holds every event of the issue at or after
+     * {@code completeFrom}. Appends amortize to O(1) (the array doubles when full).
+     */
+    private static final class IssueOffsets {
+
+        private long completeFrom;
+        private long[] offsets = new long[4];
+        private int size;
+
+        IssueOffsets(long completeFrom) {
+            this.completeFrom = completeFrom;
+        }
+
+        synchronized long completeFrom() {
+            return completeFrom;
+        }
+
+        synchronized void add(long offset) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            offsets[size++] = offset;
+        }
+
+        // Adds the offsets found in [from, to), unless another read already did
+        synchronized void prepend(long[] older, long to, long from) {
+            if (completeFrom != to) {
+                return;
+            }
+            long[] merged = new long[Math.max(4, older.length + size)];
+            System.arraycopy(older, 0, merged, 0, older.length);
+            System.arraycopy(offsets, 0, merged, older.length, size);
+            offsets = merged;
+            size += older.length;
+            completeFrom = from;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(offsets, size);
+        }
+
+        // Returns how many offsets are left
+        synchronized int dropBefore(long firstOffset) {
+            int from = 0;
+            while (from < size && offsets[from] < firstOffset) {
+                from++;
+            }
+            System.arraycopy(offsets, from, offsets, 0, size - from);
+            size -= from;
+            return size;
+        }
+    }
+
+    // Cut at a character boundary: back off over continuation bytes (10xxxxxx) so no multi-byte
+    // character is split
+    private static byte[] truncate(String value) {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_FIELD_BYTES) {
+            return bytes;
+        }
+        int end = MAX_FIELD_BYTES;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+}
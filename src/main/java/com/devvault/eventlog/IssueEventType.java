@@ -0,0 +1,15 @@
+package com.devvault.eventlog;
+
+public enum IssueEventType {
+    CREATED, UPDATED, STATUS_CHANGED, ASSIGNED, CLOSED, DELETED;
+
+    private static final IssueEventType[] VALUES = values();
+
+    static IssueEventType fromCode(byte code) {
+        return VALUES[code];
+    }
+
+    byte code() {
+        return (byte) ordinal();
+    }
+}
@@ -0,0 +1,218 @@
+package com.devvault.eventlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * A fixed-size, memory-mapped log file holding consecutive offsets starting at {@code baseOffset}.
+ *
+ * Record layout: [int bodyLength][int crc32(body)][body], body =
+ * [long offset][long issueId][long timestampMs][byte type][short actorLen][actor][short detailLen][detail].
+ * The file is zero-filled past the last record, so a zero length marks the end. Only one thread
+ * writes (under IssueEventLog's lock); readers only look below the volatile write position.
+ */
+final class LogSegment implements Closeable {
+
+    static final int HEADER_SIZE = 8;
+    private static final int FIXED_BODY_SIZE = 8 + 8 + 8 + 1 + 2 + 2;
+    private static final int INDEX_INTERVAL = 64;
+
+    final long baseOffset;
+    final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private volatile int writePosition;
+    private volatile long nextOffset;
+    private volatile long lastTimestamp;
+
+    // Sparse offset index: position of every INDEX_INTERVAL-th record (guarded by this)
+    private long[] indexOffsets = new long[16];
+    private int[] indexPositions = new int[16];
+    private int indexSize;
+
+    private LogSegment(long baseOffset, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.baseOffset = baseOffset;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+        this.nextOffset = baseOffset;
+    }
+
+    static Path fileName(Path dir, long baseOffset) {
+        return dir.resolve(String.format("%020d.log", baseOffset));
+    }
+
+    /** Opens (or creates) a segment and recovers it, passing every valid record to {@code onRecord}. */
+    static LogSegment open(Path path, long baseOffset, int size, Consumer<IssueEvent> onRecord) throws IOException {
+        int mappedSize = Files.exists(path) && Files.size(path) > 0 ? (int) Files.size(path) : size;
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+        LogSegment segment = new LogSegment(baseOffset, path, channel, buffer);
+        segment.recover(onRecord);
+        return segment;
+    }
+
+    // Scans valid records; stops at the first zero length, bad CRC or out-of-sequence offset (torn write)
+    private void recover(Consumer<IssueEvent> onRecord) {
+        int position = 0;
+        long expected = baseOffset;
+        while (position + HEADER_SIZE + FIXED_BODY_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            if (length < FIXED_BODY_SIZE || position + HEADER_SIZE + length > capacity) {
+                break;
+            }
+            if (crc(position + HEADER_SIZE, length) != buffer.getInt(position + 4)) {
+                break;
+            }
+            IssueEvent event = decode(position);
+            if (event.offset() != expected) {
+                break;
+            }
+            index(event.offset(), position);
+            onRecord.accept(event);
+            lastTimestamp = event.timestamp().toEpochMilli();
+            expected++;
+            position += HEADER_SIZE + length;
+        }
+        // wipe whatever partial record follows so it can't be mistaken for data later
+        for (int i = position; i < Math.min(capacity, position + HEADER_SIZE); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        writePosition = position;
+        nextOffset = expected;
+    }
+
+    static int recordSize(byte[] actor, byte[] detail) {
+        return HEADER_SIZE + FIXED_BODY_SIZE + actor.length + detail.length;
+    }
+
+    boolean hasRoomFor(int recordSize) {
+        return writePosition + recordSize <= capacity;
+    }
+
+    boolean isEmpty() {
+        return nextOffset == baseOffset;
+    }
+
+    long nextOffset() {
+        return nextOffset;
+    }
+
+    long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    /** Appends one record; caller holds the log's write lock and has checked {@link #hasRoomFor}. */
+    long append(long issueId, IssueEventType type, long timestamp, byte[] actor, byte[] detail) {
+        long offset = nextOffset;
+        int position = writePosition;
+        int bodyStart = position + HEADER_SIZE;
+        int p = bodyStart;
+        buffer.putLong(p, offset);
+        buffer.putLong(p + 8, issueId);
+        buffer.putLong(p + 16, timestamp);
+        buffer.put(p + 24, type.code());
+        buffer.putShort(p + 25, (short) actor.length);
+        buffer.put(p + 27, actor);
+        p += 27 + actor.length;
+        buffer.putShort(p, (short) detail.length);
+        buffer.put(p + 2, detail);
+        int length = FIXED_BODY_SIZE + actor.length + detail.length;
+
+        buffer.putInt(position + 4, crc(bodyStart, length));
+        buffer.putInt(position, length); // length last: a record is visible only once complete
+
+        index(offset, position);
+        lastTimestamp = timestamp;
+        nextOffset = offset + 1;
+        writePosition = position + HEADER_SIZE + length;
+        return offset;
+    }
+
+    /** Reads up to {@code max} events starting at {@code fromOffset} (which must be in this segment). */
+    List<IssueEvent> read(long fromOffset, int max) {
+        List<IssueEvent> events = new ArrayList<>(Math.min(max, 64));
+        int limit = writePosition;
+        int position = startPosition(fromOffset);
+        while (position < limit && events.size() < max) {
+            int length = buffer.getInt(position);
+            IssueEvent event = decode(position);
+            if (event.offset() >= fromOffset) {
+                events.add(event);
+            }
+            position += HEADER_SIZE + length;
+        }
+        return events;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized void index(long offset, int position) {
+        if ((offset - baseOffset) % INDEX_INTERVAL != 0) {
+            return;
+        }
+        if (indexSize == indexOffsets.length) {
+            indexOffsets = Arrays.copyOf(indexOffsets, indexSize * 2);
+            indexPositions = Arrays.copyOf(indexPositions, indexSize * 2);
+        }
+        indexOffsets[indexSize] = offset;
+        indexPositions[indexSize] = position;
+        indexSize++;
+    }
+
+    private synchronized int startPosition(long offset) {
+        int slot = Arrays.binarySearch(indexOffsets, 0, indexSize, offset);
+        if (slot >= 0) {
+            return indexPositions[slot];
+        }
+        int floor = -slot - 2;
+        return floor >= 0 ? indexPositions[floor] : 0;
+    }
+
+    private IssueEvent decode(int position) {
+        int p = position + HEADER_SIZE;
+        long offset = buffer.getLong(p);
+        long issueId = buffer.getLong(p + 8);
+        long timestamp = buffer.getLong(p + 16);
+        IssueEventType type = IssueEventType.fromCode(buffer.get(p + 24));
+        int actorLength = buffer.getShort(p + 25) & 0xFFFF;
+        byte[] actor = new byte[actorLength];
+        buffer.get(p + 27, actor);
+        p += 27 + actorLength;
+        byte[] detail = new byte[buffer.getShort(p) & 0xFFFF];
+        buffer.get(p + 2, detail);
+        return new IssueEvent(offset, issueId, type, Instant.ofEpochMilli(timestamp),
+                new String(actor, StandardCharsets.UTF_8), new String(detail, StandardCharsets.UTF_8));
+    }
+
+    private int crc(int position, int length) {
+        CRC32 crc = new CRC32();
+        ByteBuffer body = buffer.slice(position, length);
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+}
@@ -1,22 +1,43 @@
 package com.devvault.exception;
 
+import com.devvault.monitoring.AccessLogFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
+// Client errors are not logged here: the message goes on the request's access-log record
 @Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final int MAX_LOGGED_FAILURES = 1024;
+    private static final String APPLICATION_PACKAGE = "com.devvault.";
+
+    // Exception type + failure site of unhandled exceptions whose stack trace was logged in the
+    // current interval; the least recent sites are dropped beyond MAX_LOGGED_FAILURES
+    private final Cache<String, Boolean> loggedFailures;
+
+    public GlobalExceptionHandler(@Value("${devvault.errors.stack-trace-interval:10m}") Duration stackTraceInterval) {
+        this.loggedFailures = Caffeine.newBuilder()
+                .maximumSize(MAX_LOGGED_FAILURES)
+                .expireAfterWrite(stackTraceInterval)
+                .build();
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<Map<String, String>> handleResourceNotFound(ResourceNotFoundException ex) {
-        log.warn("⚠️ ResourceNotFoundException: {}", ex.getMessage());
+    public ResponseEntity<Map<String, String>> handleResourceNotFound(HttpServletRequest request,
+                                                                      ResourceNotFoundException ex) {
+        request.setAttribute(AccessLogFilter.ERROR_ATTRIBUTE, ex.getMessage());
 
         Map<String, String> error = new HashMap<>();
         error.put("error", "Not Found");
@@ -25,15 +46,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, String>> handleValidationErrors(MethodArgumentNotValidException ex) {
-        log.warn("⚠️ Validation failed: {}", ex.getMessage());
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(HttpServletRequest request, BadRequestException ex) {
+        request.setAttribute(AccessLogFilter.ERROR_ATTRIBUTE, ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Bad Request");
+        error.put("message", ex.getMessage());
 
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<Map<String, String>> handleValidationErrors(HttpServletRequest request,
+                                                                      MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getFieldErrors().forEach(error -> {
             log.debug("Field error - {}: {}", error.getField(), error.getDefaultMessage());
             errors.put(error.getField(), error.getDefaultMessage());
         });
+        request.setAttribute(AccessLogFilter.ERROR_ATTRIBUTE, "Validation failed: " + errors.keySet());
 
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
@@ -46,7 +78,11 @@ public class GlobalExceptionHandler {
             return null; // Let SpringDoc handle it
         }
 
-        log.error("❌ Unhandled exception at [{}]: {}", uri, ex.getMessage(), ex);
+        // Full stack trace once per failure site and interval; repeats only show up in the access log
+        request.setAttribute(AccessLogFilter.ERROR_ATTRIBUTE, ex.getClass().getSimpleName() + ": " + ex.getMessage());
+        if (loggedFailures.asMap().putIfAbsent(failureSite(ex), Boolean.TRUE) == null) {
+            log.error("❌ Unhandled exception at [{}]: {}", uri, ex.getMessage(), ex);
+        }
 
         Map<String, String> error = new HashMap<>();
         error.put("error", "Internal Server Error");
@@ -54,4 +90,16 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    // The first frame of our own code: exceptions translated by Spring or thrown inside a library
+    // all share the library's top frame, but not the call site in the application
+    static String failureSite(Throwable ex) {
+        StackTraceElement[] stack = ex.getStackTrace();
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith(APPLICATION_PACKAGE)) {
+                return ex.getClass().getName() + "@" + frame;
+            }
+        }
+        return stack.length > 0 ? ex.getClass().getName() + "@" + stack[0] : ex.getClass().getName();
+    }
 }
@@ -1,12 +1,12 @@
 package com.devvault.exception;
 
-import lombok.extern.slf4j.Slf4j;
-
-@Slf4j
+/**
+ * Thrown for every lookup miss, so it is built cheaply: no stack trace is captured (the 404
+ * never needs one) and nothing is logged here; the request's access-log record carries the message.
+ */
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException(String message) {
-        super(message);
-        log.warn("🚫 ResourceNotFoundException created: {}", message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,52 @@
+package com.devvault.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A CLOSED issue moved out of the live table by IssueArchiveService. Rows keep their original
+ * id and are read-only; only the archive job writes them.
+ */
+@Entity
+@Table(name = "archived_issues")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedIssue implements IssueView {
+
+    @Id
+    private Long id;
+
+    private String title;
+    private String description;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Difficulty difficulty;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private IssueStatus status;
+
+    @ManyToOne
+    @JoinColumn(name = "user_id")
+    private User assignedTo;
+
+    @Column(name = "reward_points")
+    private Integer rewardPoints;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
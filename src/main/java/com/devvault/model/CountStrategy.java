@@ -0,0 +1,15 @@
+package com.devvault.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+// How the total of a filtered page is computed (GET /issues/filter?count=...)
+@Schema
+public enum CountStrategy {
+    // COUNT(*) over the filtered rows
+    EXACT,
+    // per status/difficulty counters kept in memory and updated on every write; approximate, since
+    // writes served by other instances are only picked up by the periodic refresh
+    CACHED,
+    // the query planner's row estimate (PostgreSQL); approximate, but independent of table size
+    ESTIMATED
+}
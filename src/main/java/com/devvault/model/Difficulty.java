@@ -4,5 +4,16 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema
 public enum Difficulty {
-    EASY, MEDIUM, HARD
+    EASY(10), MEDIUM(20), HARD(30);
+
+    // Points credited to the assignee when an issue of this difficulty is closed
+    private final int reward;
+
+    Difficulty(int reward) {
+        this.reward = reward;
+    }
+
+    public int getReward() {
+        return reward;
+    }
 }
@@ -6,10 +6,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "issues")
-public class Issue {
+public class Issue implements IssueView {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issues_seq")
+    @SequenceGenerator(name = "issues_seq", sequenceName = "issues_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -0,0 +1,28 @@
+package com.devvault.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Read-side shape shared by live issues and archived ones, so both serialize the same way
+public interface IssueView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Difficulty getDifficulty();
+
+    IssueStatus getStatus();
+
+    User getAssignedTo();
+
+    Integer getRewardPoints();
+
+    LocalDate getDueDate();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
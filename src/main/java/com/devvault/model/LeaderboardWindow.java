@@ -0,0 +1,19 @@
+package com.devvault.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema
+public enum LeaderboardWindow {
+    ALL(0), DAILY(1), WEEKLY(7), MONTHLY(30);
+
+    // Number of daily reward buckets merged for this window (0 = all-time total on users)
+    private final int days;
+
+    LeaderboardWindow(int days) {
+        this.days = days;
+    }
+
+    public int getDays() {
+        return days;
+    }
+}
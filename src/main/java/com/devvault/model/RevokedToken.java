@@ -0,0 +1,36 @@
+package com.devvault.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Persistent copy of the in-memory revocation deny-list. A row is either a single token
+ * (key = jti) or a whole subject (key = email, every token issued up to revokedAt is revoked).
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+    public enum Kind { TOKEN, SUBJECT }
+
+    @Id
+    @Column(name = "token_key", nullable = false)
+    private String tokenKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Kind kind;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    // After this the revoked tokens have expired anyway and the entry can be dropped
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
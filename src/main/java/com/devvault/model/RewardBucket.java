@@ -0,0 +1,39 @@
+package com.devvault.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Reward points a user earned on one UTC day. Windowed leaderboards sum at most 30 of
+ * these per user instead of scanning closed issues.
+ */
+@Entity
+@Table(name = "reward_buckets")
+@IdClass(RewardBucket.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RewardBucket {
+
+    @Id
+    @Column(name = "bucket_day", nullable = false)
+    private LocalDate day;
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int points;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private Long userId;
+    }
+}
@@ -1,12 +1,21 @@
 package com.devvault.model;
 
+import com.devvault.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 
+// Read on nearly every request (by id, by email from the JWT), written rarely: second-level cached
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USERS)
+@NaturalIdCache(region = SecondLevelCacheConfig.USERS_BY_EMAIL)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,12 +23,14 @@ import java.time.LocalDateTime;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
     private String username;
 
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false)
     private String email;
 
@@ -0,0 +1,29 @@
+package com.devvault.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * How many issues assigned to a user are in each status (archived ones included). Moved by the
+ * issue write paths in the same transaction as the write, so the dashboard never counts issues.
+ */
+@Entity
+@Table(name = "user_issue_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserIssueStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "open_count", nullable = false)
+    private int openCount;
+
+    @Column(name = "claimed_count", nullable = false)
+    private int claimedCount;
+
+    @Column(name = "closed_count", nullable = false)
+    private int closedCount;
+}
@@ -0,0 +1,111 @@
+package com.devvault.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One compact record per request on the "devvault.access" logger, e.g.
+ * {@code GET /issues/{id} 404 2ms sample=1 error="Issue not found with ID: 7"}.
+ * Outermost filter, so the duration covers authentication and rate limiting too.
+ * Successful requests are sampled 1 in N per endpoint (method + route pattern), so a rare
+ * endpoint still shows up next to a hot one; {@code sample=N} says how many requests a record
+ * stands for. Errors and slow requests are always logged, except 429/503: those are the load
+ * shedding responses and are sampled like successes, or an overload would flood the log.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    /** Set by the exception handlers: the error message for this request's record. */
+    public static final String ERROR_ATTRIBUTE = AccessLogFilter.class.getName() + ".ERROR";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("devvault.access");
+
+    private final boolean enabled;
+    private final long readSampleEvery;
+    private final long writeSampleEvery;
+    private final long slowNanos;
+
+    // Keyed by route pattern, so bounded by the number of endpoints (unmatched URIs share one key)
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    public AccessLogFilter(@Value("${devvault.access-log.enabled:true}") boolean enabled,
+                           @Value("${devvault.access-log.read-sample-every:100}") long readSampleEvery,
+                           @Value("${devvault.access-log.write-sample-every:1}") long writeSampleEvery,
+                           @Value("${devvault.access-log.slow-threshold:500ms}") Duration slowThreshold) {
+        this.enabled = enabled;
+        this.readSampleEvery = Math.max(1, readSampleEvery);
+        this.writeSampleEvery = Math.max(1, writeSampleEvery);
+        this.slowNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !accessLog.isInfoEnabled() || request.getRequestURI().startsWith("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            // Spring MVC leaves the matched pattern (e.g. "/issues/{id}") on the request
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "(unmatched)");
+            int status = response.getStatus();
+
+            long sampleEvery = isSampled(status) && nanos < slowNanos ? sampleEvery(request.getMethod()) : 1;
+            if (sampleEvery == 1
+                    || counters.computeIfAbsent(endpoint, k -> new AtomicLong()).getAndIncrement() % sampleEvery == 0) {
+                write(request, endpoint, pattern != null, status, nanos, sampleEvery);
+            }
+        }
+    }
+
+    private static boolean isSampled(int status) {
+        return status < 400 || status == 429 || status == 503;
+    }
+
+    private long sampleEvery(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) ? readSampleEvery : writeSampleEvery;
+    }
+
+    private static void write(HttpServletRequest request, String endpoint, boolean matched, int status, long nanos,
+                              long sampleEvery) {
+        StringBuilder record = new StringBuilder(96)
+                .append(endpoint).append(' ').append(status).append(' ')
+                .append(nanos / 1_000_000).append("ms sample=").append(sampleEvery);
+        if (!matched) {
+            record.append(" uri=").append(request.getRequestURI());
+        }
+        Object error = request.getAttribute(ERROR_ATTRIBUTE);
+        if (error != null) {
+            record.append(" error=\"").append(error).append('"');
+        }
+        if (status >= 500) {
+            accessLog.warn(record.toString());
+        } else {
+            accessLog.info(record.toString());
+        }
+    }
+}
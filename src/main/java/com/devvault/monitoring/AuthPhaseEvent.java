@@ -0,0 +1,16 @@
+package com.devvault.monitoring;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.devvault.AuthPhase")
+@Label("Auth Filter")
+public class AuthPhaseEvent extends RequestPhaseEvent {
+
+    @Label("Authenticated")
+    boolean authenticated;
+
+    public void setAuthenticated(boolean authenticated) {
+        this.authenticated = authenticated;
+    }
+}
@@ -0,0 +1,38 @@
+package com.devvault.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 🔐 GET /actuator/jfr - downloads the bounded request-phase recording (open with JMC / `jfr print`)
+@Component
+@Endpoint(id = "jfr")
+public class JfrDumpEndpoint {
+
+    private final RequestPhaseRecorder recorder;
+
+    public JfrDumpEndpoint(RequestPhaseRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    // Streamed from the dump file rather than read into the heap; the file is opened DELETE_ON_CLOSE,
+    // so it is gone once the response has been written
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump() throws IOException {
+        Path file = Files.createTempFile("devvault-", ".jfr");
+        try {
+            recorder.dump(file);
+            return new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+}
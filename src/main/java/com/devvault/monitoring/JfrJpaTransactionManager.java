@@ -0,0 +1,23 @@
+package com.devvault.monitoring;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+public class JfrJpaTransactionManager extends JpaTransactionManager {
+
+    public JfrJpaTransactionManager(EntityManagerFactory emf) {
+        super(emf);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        TransactionCommitEvent event = new TransactionCommitEvent();
+        event.begin();
+        try {
+            super.doCommit(status);
+        } finally {
+            RequestPhases.commit(event);
+        }
+    }
+}
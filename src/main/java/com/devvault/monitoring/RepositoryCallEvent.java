@@ -0,0 +1,15 @@
+package com.devvault.monitoring;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.devvault.RepositoryCall")
+@Label("Repository Call")
+public class RepositoryCallEvent extends RequestPhaseEvent {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+}
@@ -0,0 +1,29 @@
+package com.devvault.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object recordRepositoryCall(ProceedingJoinPoint pjp) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        try {
+            return pjp.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(pjp.getThis());
+                event.repository = interfaces.length > 0 ? interfaces[0].getSimpleName() : "unknown";
+                event.method = pjp.getSignature().getName();
+                RequestPhases.tagAndCommit(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.devvault.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Common fields for every request-phase JFR event. Tags are only resolved when the
+ * event is actually going to be committed (see {@link RequestPhases#commit}).
+ */
+@Category({"DevVault", "Request"})
+@StackTrace(false)
+public abstract class RequestPhaseEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Role")
+    String role;
+}
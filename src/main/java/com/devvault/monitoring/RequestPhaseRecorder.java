@@ -0,0 +1,75 @@
+package com.devvault.monitoring;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Always-on, bounded JFR recording (JDK "default" profile plus the DevVault request-phase
+ * events). The ring is capped by age and size, so it can run in production indefinitely.
+ */
+@Slf4j
+@Component
+public class RequestPhaseRecorder {
+
+    @Value("${devvault.jfr.enabled:true}")
+    private boolean enabled;
+
+    @Value("${devvault.jfr.max-age:10m}")
+    private Duration maxAge;
+
+    @Value("${devvault.jfr.max-size-mb:64}")
+    private long maxSizeMb;
+
+    @Value("${devvault.jfr.threshold:0ms}")
+    private Duration threshold;
+
+    private Recording recording;
+
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        if (!enabled) {
+            log.info("JFR request-phase recording disabled");
+            return;
+        }
+        recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName("devvault-request-phases");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        recording.enable(AuthPhaseEvent.class).withThreshold(threshold);
+        recording.enable(RepositoryCallEvent.class).withThreshold(threshold);
+        recording.enable(TransactionCommitEvent.class).withThreshold(threshold);
+        recording.enable(SerializationEvent.class).withThreshold(threshold);
+        recording.start();
+        log.info("JFR request-phase recording started (maxAge={}, maxSize={}MB)", maxAge, maxSizeMb);
+    }
+
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    // Copies the current ring buffer contents to the given file; the recording keeps running
+    public void dump(Path destination) throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("JFR recording is not enabled");
+        }
+        recording.dump(destination);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
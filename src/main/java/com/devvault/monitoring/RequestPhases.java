@@ -0,0 +1,51 @@
+package com.devvault.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+public final class RequestPhases {
+
+    private RequestPhases() {}
+
+    // Ends the event and, only if JFR wants it, fills in endpoint/role and commits
+    public static void commit(RequestPhaseEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            tagAndCommit(event);
+        }
+    }
+
+    // For callers that already ended the event and checked shouldCommit() to add their own fields
+    static void tagAndCommit(RequestPhaseEvent event) {
+        event.endpoint = endpoint();
+        event.role = role();
+        event.commit();
+    }
+
+    // Uses the matched handler pattern (e.g. "/issues/{id}") once MVC has resolved it
+    static String endpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return "n/a";
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    static String role() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth.getAuthorities().isEmpty()) {
+            return "ANONYMOUS";
+        }
+        GrantedAuthority authority = auth.getAuthorities().iterator().next();
+        String name = authority.getAuthority();
+        return name != null && name.startsWith("ROLE_") ? name.substring(5) : name;
+    }
+}
@@ -0,0 +1,51 @@
+package com.devvault.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 🔐 GET /actuator/l2cache - hits, misses and hit ratio per second-level cache region since startup
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+
+    private final CacheManager cacheManager;
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    public SecondLevelCacheEndpoint(CacheManager secondLevelCacheManager) {
+        this.cacheManager = secondLevelCacheManager;
+    }
+
+    public record RegionStatistics(long hits, long misses, double hitRatio, long puts, long evictions, long removals) {}
+
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() throws MalformedObjectNameException {
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        for (String region : cacheManager.getCacheNames()) {
+            // The JCache provider registers these when the region is created with statistics enabled;
+            // neither the manager URI nor our region names contain characters JMX would rewrite
+            ObjectName name = new ObjectName("javax.cache:type=CacheStatistics,CacheManager="
+                    + cacheManager.getURI() + ",Cache=" + region);
+            if (!mBeanServer.isRegistered(name)) {
+                continue;
+            }
+            CacheStatisticsMXBean statistics = JMX.newMXBeanProxy(mBeanServer, name, CacheStatisticsMXBean.class);
+            long hits = statistics.getCacheHits();
+            long misses = statistics.getCacheMisses();
+            regions.put(region, new RegionStatistics(hits, misses,
+                    hits + misses == 0 ? 0 : (double) hits / (hits + misses),
+                    statistics.getCachePuts(), statistics.getCacheEvictions(), statistics.getCacheRemovals()));
+        }
+        return regions;
+    }
+}
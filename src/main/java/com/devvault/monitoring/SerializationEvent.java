@@ -0,0 +1,12 @@
+package com.devvault.monitoring;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.devvault.Serialization")
+@Label("Response Serialization")
+public class SerializationEvent extends RequestPhaseEvent {
+
+    @Label("Payload Type")
+    String payloadType;
+}
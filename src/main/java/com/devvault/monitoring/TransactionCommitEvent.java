@@ -0,0 +1,9 @@
+package com.devvault.monitoring;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.devvault.TransactionCommit")
+@Label("Transaction Commit")
+public class TransactionCommitEvent extends RequestPhaseEvent {
+}
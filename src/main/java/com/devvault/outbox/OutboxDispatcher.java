@@ -0,0 +1,144 @@
+package com.devvault.outbox;
+
+import com.devvault.model.OutboxEvent;
+import com.devvault.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Drains outbox_events in the background:
+ * 1. claim a batch (FOR UPDATE SKIP LOCKED, only the oldest pending event per aggregate) and lease it
+ * 2. process each event in its own transaction: mark processed + run every handler for its type
+ * 3. on failure, retry with exponential backoff; after max attempts the event is parked
+ *    (and, by design, blocks later events of the same aggregate until someone looks at it)
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<OutboxEventHandler>> handlersByType;
+
+    @Value("${devvault.outbox.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${devvault.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${devvault.outbox.lease:30s}")
+    private Duration lease;
+
+    @Value("${devvault.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${devvault.outbox.retention:1d}")
+    private Duration retention;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            List<OutboxEventHandler> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.handlersByType = handlers.stream().collect(Collectors.groupingBy(OutboxEventHandler::eventType));
+    }
+
+    @Scheduled(fixedDelayString = "${devvault.outbox.poll-interval:200ms}")
+    public void poll() {
+        if (enabled) {
+            drain();
+        }
+    }
+
+    /** Processes batches until nothing is due; returns the number of events attempted. */
+    public int drain() {
+        int total = 0;
+        int claimed;
+        do {
+            List<OutboxEvent> batch = claimBatch();
+            batch.forEach(this::process);
+            claimed = batch.size();
+            total += claimed;
+        } while (claimed == batchSize);
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${devvault.outbox.cleanup-interval:1h}")
+    public void deleteProcessed() {
+        if (enabled) {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.deleteProcessedBefore(Instant.now().minus(retention)));
+        }
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxEvent> events = outboxEventRepository.lockNextBatch(now, batchSize);
+            if (!events.isEmpty()) {
+                outboxEventRepository.lease(events.stream().map(OutboxEvent::getId).toList(), now.plus(lease));
+            }
+            return events;
+        });
+    }
+
+    private void process(OutboxEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (outboxEventRepository.markProcessed(event.getId(), Instant.now()) == 0) {
+                    return;
+                }
+                List<OutboxEventHandler> handlers = handlersByType.getOrDefault(event.getEventType(), List.of());
+                if (handlers.isEmpty()) {
+                    log.debug("No outbox handler for event type {}", event.getEventType());
+                    return;
+                }
+                JsonNode payload = readPayload(event);
+                for (OutboxEventHandler handler : handlers) {
+                    handler.handle(event, payload);
+                }
+            });
+        } catch (RuntimeException e) {
+            int attempts = event.getAttempts() + 1;
+            Instant nextAttempt = attempts >= maxAttempts ? null : Instant.now().plus(backoff(attempts));
+            String error = String.valueOf(e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markFailed(event.getId(),
+                    nextAttempt, error.length() > 500 ? error.substring(0, 500) : error));
+            if (nextAttempt == null) {
+                log.error("Outbox event {} ({}) failed {} times, parking it", event.getId(), event.getEventType(), attempts, e);
+            } else {
+                log.warn("Outbox event {} ({}) failed (attempt {}), retrying at {}: {}",
+                        event.getId(), event.getEventType(), attempts, nextAttempt, error);
+            }
+        }
+    }
+
+    private JsonNode readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayload());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed outbox payload for event " + event.getId(), e);
+        }
+    }
+
+    private static Duration backoff(int attempts) {
+        return Duration.ofSeconds(Math.min(600, 1L << Math.min(attempts, 10)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.devvault.outbox;
+
+import com.devvault.model.OutboxEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Consumer of one outbox event type. Runs inside the dispatcher's transaction together with
+ * marking the event processed, so database effects apply exactly once; anything outside the
+ * database must tolerate being repeated after a retry.
+ */
+public interface OutboxEventHandler {
+
+    String eventType();
+
+    void handle(OutboxEvent event, JsonNode payload);
+}
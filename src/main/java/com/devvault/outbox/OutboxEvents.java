@@ -0,0 +1,11 @@
+package com.devvault.outbox;
+
+// Event type names stored in outbox_events.event_type
+public final class OutboxEvents {
+
+    // payload: {"userId": 4, "points": 20, "closedAt": 1767225600000}; closedAt is epoch millis and
+    // picks the leaderboard day, so a delayed dispatch still credits the day the issue was closed
+    public static final String ISSUE_CLOSED = "ISSUE_CLOSED";
+
+    private OutboxEvents() {}
+}
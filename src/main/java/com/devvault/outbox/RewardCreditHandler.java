@@ -0,0 +1,50 @@
+package com.devvault.outbox;
+
+import com.devvault.model.OutboxEvent;
+import com.devvault.repository.UserRepository;
+import com.devvault.service.LeaderboardService;
+import com.devvault.service.UserCacheService;
+import com.devvault.service.UserDashboardService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+// ISSUE_CLOSED: credit the assignee's lifetime points and the leaderboard bucket of the day the issue was closed
+@Component
+public class RewardCreditHandler implements OutboxEventHandler {
+
+    private final UserRepository userRepository;
+    private final LeaderboardService leaderboardService;
+    private final UserDashboardService userDashboardService;
+    private final UserCacheService userCacheService;
+
+    public RewardCreditHandler(UserRepository userRepository, LeaderboardService leaderboardService,
+                               UserDashboardService userDashboardService, UserCacheService userCacheService) {
+        this.userRepository = userRepository;
+        this.leaderboardService = leaderboardService;
+        this.userDashboardService = userDashboardService;
+        this.userCacheService = userCacheService;
+    }
+
+    @Override
+    public String eventType() {
+        return OutboxEvents.ISSUE_CLOSED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event, JsonNode payload) {
+        long userId = payload.get("userId").asLong();
+        int points = payload.get("points").asInt();
+        // events queued before closedAt was added fall back to the dispatch day
+        LocalDate day = payload.has("closedAt")
+                ? Instant.ofEpochMilli(payload.get("closedAt").asLong()).atZone(ZoneOffset.UTC).toLocalDate()
+                : LocalDate.now(ZoneOffset.UTC);
+        userRepository.addRewardPoints(userId, points);
+        leaderboardService.recordReward(userId, points, day);
+        userDashboardService.evict(userId);
+        userCacheService.rewarded(userId);
+    }
+}
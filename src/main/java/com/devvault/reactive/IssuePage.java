@@ -0,0 +1,23 @@
+package com.devvault.reactive;
+
+import java.util.List;
+
+/**
+ * Page of filter results with the same top-level fields clients read from the servlet tier's Page JSON.
+ */
+public record IssuePage(List<ReactiveIssue> content,
+                        int number,
+                        int size,
+                        long totalElements,
+                        int totalPages,
+                        int numberOfElements,
+                        boolean first,
+                        boolean last,
+                        boolean empty) {
+
+    public static IssuePage of(List<ReactiveIssue> content, int page, int size, long total) {
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) total / size);
+        return new IssuePage(content, page, size, total, totalPages, content.size(),
+                page == 0, page + 1 >= totalPages, content.isEmpty());
+    }
+}
@@ -0,0 +1,26 @@
+package com.devvault.reactive;
+
+import com.devvault.dto.UserResponseDTO;
+import com.devvault.model.Difficulty;
+import com.devvault.model.IssueStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Issue as served by the reactive read tier. Same fields as the servlet tier's Issue/ArchivedIssue
+ * JSON, except that the assignee is rendered as a {@link UserResponseDTO} (never with the password hash).
+ */
+public record ReactiveIssue(Long id,
+                            String title,
+                            String description,
+                            Difficulty difficulty,
+                            IssueStatus status,
+                            UserResponseDTO assignedTo,
+                            Integer rewardPoints,
+                            LocalDate dueDate,
+                            LocalDateTime createdAt,
+                            LocalDateTime updatedAt,
+                            @JsonInclude(JsonInclude.Include.NON_NULL) LocalDateTime archivedAt) {
+}
@@ -0,0 +1,83 @@
+package com.devvault.reactive;
+
+import com.devvault.exception.BadRequestException;
+import com.devvault.exception.ResourceNotFoundException;
+import com.devvault.model.Difficulty;
+import com.devvault.model.IssueStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+public class ReactiveIssueHandler {
+
+    private final ReactiveIssueRepository issueRepository;
+
+    public ReactiveIssueHandler(ReactiveIssueRepository issueRepository) {
+        this.issueRepository = issueRepository;
+    }
+
+    // GET /issues/{id} (live or archived)
+    public Mono<ServerResponse> getIssueById(ServerRequest request) {
+        return Mono.fromCallable(() -> parseLong(request.pathVariable("id"), "id"))
+                .flatMap(id -> issueRepository.findById(id)
+                        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Issue not found with ID: " + id))))
+                .flatMap(issue -> ServerResponse.ok().bodyValue(issue));
+    }
+
+    /**
+     * GET /issues/filter?status=OPEN&difficulty=EASY&page=0&size=10. With
+     * {@code Accept: application/x-ndjson} the filtered set is streamed as one issue per line
+     * instead (no paging, no count), at the pace the client reads it, up to
+     * devvault.reactive.stream-max-rows issues.
+     */
+    public Mono<ServerResponse> filterIssues(ServerRequest request) {
+        // deferred so that parameter errors reach the router's onError handlers as error signals
+        return Mono.defer(() -> filter(request));
+    }
+
+    private Mono<ServerResponse> filter(ServerRequest request) {
+        IssueStatus status = parseEnum(IssueStatus.class, request.queryParam("status").orElse(null));
+        Difficulty difficulty = parseEnum(Difficulty.class, request.queryParam("difficulty").orElse(null));
+
+        if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(issueRepository.stream(status, difficulty), ReactiveIssue.class);
+        }
+
+        int page = parseInt(request.queryParam("page").orElse("0"), "page");
+        int size = parseInt(request.queryParam("size").orElse("10"), "size");
+        if (page < 0 || size < 1) {
+            return Mono.error(new BadRequestException("page must be >= 0 and size >= 1"));
+        }
+        return Mono.zip(issueRepository.findPage(status, difficulty, page, size).collectList(),
+                        issueRepository.count(status, difficulty))
+                .flatMap(result -> ServerResponse.ok()
+                        .bodyValue(IssuePage.of(result.getT1(), page, size, result.getT2())));
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return value != null ? Enum.valueOf(type, value.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid " + type.getSimpleName() + ": " + value);
+        }
+    }
+
+    private static int parseInt(String value, String name) {
+        long parsed = parseLong(value, name);
+        if (parsed < Integer.MIN_VALUE || parsed > Integer.MAX_VALUE) {
+            throw new BadRequestException("Invalid " + name + ": " + value);
+        }
+        return (int) parsed;
+    }
+
+    private static long parseLong(String value, String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid " + name + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.devvault.reactive;
+
+import com.devvault.dto.UserResponseDTO;
+import com.devvault.model.Difficulty;
+import com.devvault.model.IssueStatus;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Issue reads over R2DBC against the schema owned by the servlet application (Flyway migrations).
+ * Mirrors IssueArchiveService: lookups fall through to archived_issues, and CLOSED filters
+ * return live rows first and then the archive, both ordered by id.
+ */
+public class ReactiveIssueRepository {
+
+    private static final String COLUMNS = "i.id, i.title, i.description, i.difficulty, i.status, i.reward_points, " +
+            "i.due_date, i.created_at, i.updated_at, u.id AS assignee_id, u.username, u.email, u.role, " +
+            "u.reward_points AS assignee_points";
+    private static final String LIVE = "SELECT 0 AS src, " + COLUMNS + ", CAST(NULL AS TIMESTAMP) AS archived_at " +
+            "FROM issues i LEFT JOIN users u ON u.id = i.user_id";
+    private static final String ARCHIVED = "SELECT 1 AS src, " + COLUMNS + ", i.archived_at " +
+            "FROM archived_issues i LEFT JOIN users u ON u.id = i.user_id";
+
+    private final DatabaseClient databaseClient;
+    private final int streamFetchSize;
+    private final int streamMaxRows;
+    private final Duration streamIdleTimeout;
+
+    public ReactiveIssueRepository(DatabaseClient databaseClient, int streamFetchSize, int streamMaxRows,
+                                   Duration streamIdleTimeout) {
+        this.databaseClient = databaseClient;
+        this.streamFetchSize = streamFetchSize;
+        this.streamMaxRows = streamMaxRows;
+        this.streamIdleTimeout = streamIdleTimeout;
+    }
+
+    // Live table first, archive only on a miss
+    public Mono<ReactiveIssue> findById(long id) {
+        return findOne(LIVE + " WHERE i.id = :id", id)
+                .switchIfEmpty(Mono.defer(() -> findOne(ARCHIVED + " WHERE i.id = :id", id)));
+    }
+
+    public Flux<ReactiveIssue> findPage(IssueStatus status, Difficulty difficulty, int page, int size) {
+        return bind(databaseClient.sql(select(status, difficulty) + " LIMIT :limit OFFSET :offset"), status, difficulty)
+                .bind("limit", size)
+                .bind("offset", (long) page * size)
+                .map(ReactiveIssueRepository::toIssue)
+                .all();
+    }
+
+    public Mono<Long> count(IssueStatus status, Difficulty difficulty) {
+        String where = where(status, difficulty);
+        String sql = "SELECT COUNT(*) FROM issues i" + where;
+        if (status == IssueStatus.CLOSED) {
+            sql = "SELECT (" + sql + ") + (SELECT COUNT(*) FROM archived_issues i" + where + ")";
+        }
+        return bind(databaseClient.sql(sql), status, difficulty)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * The first streamMaxRows matching issues, read from a cursor in fetch-size chunks. Rows are
+     * only pulled from the database as the subscriber (ultimately the HTTP response) requests
+     * them; a subscriber that requests nothing for streamIdleTimeout gets an error, which closes
+     * the cursor and frees its connection.
+     */
+    public Flux<ReactiveIssue> stream(IssueStatus status, Difficulty difficulty) {
+        return bind(databaseClient.sql(select(status, difficulty) + " LIMIT :limit"), status, difficulty)
+                .bind("limit", streamMaxRows)
+                .filter(statement -> statement.fetchSize(streamFetchSize))
+                .map(ReactiveIssueRepository::toIssue)
+                .all()
+                .timeout(streamIdleTimeout);
+    }
+
+    private Mono<ReactiveIssue> findOne(String sql, long id) {
+        return databaseClient.sql(sql)
+                .bind("id", id)
+                .map(ReactiveIssueRepository::toIssue)
+                .one();
+    }
+
+    // Archived issues are all CLOSED, so the archive only takes part in CLOSED filters
+    private static String select(IssueStatus status, Difficulty difficulty) {
+        String where = where(status, difficulty);
+        String source = status == IssueStatus.CLOSED
+                ? LIVE + where + " UNION ALL " + ARCHIVED + where
+                : LIVE + where;
+        return "SELECT * FROM (" + source + ") t ORDER BY t.src, t.id";
+    }
+
+    // Parameters are cast rather than the columns (indexes stay usable); r2dbc-h2 binds Strings as CLOBs,
+    // which H2 won't compare with its enum columns
+    private static String where(IssueStatus status, Difficulty difficulty) {
+        String byStatus = "i.status = CAST(:status AS VARCHAR(32))";
+        String byDifficulty = "i.difficulty = CAST(:difficulty AS VARCHAR(32))";
+        if (status != null && difficulty != null) {
+            return " WHERE " + byStatus + " AND " + byDifficulty;
+        } else if (status != null) {
+            return " WHERE " + byStatus;
+        } else if (difficulty != null) {
+            return " WHERE " + byDifficulty;
+        }
+        return "";
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec,
+                                                          IssueStatus status, Difficulty difficulty) {
+        if (status != null) {
+            spec = spec.bind("status", status.name());
+        }
+        if (difficulty != null) {
+            spec = spec.bind("difficulty", difficulty.name());
+        }
+        return spec;
+    }
+
+    private static ReactiveIssue toIssue(Readable row) {
+        Long assigneeId = row.get("assignee_id", Long.class);
+        UserResponseDTO assignee = null;
+        if (assigneeId != null) {
+            assignee = new UserResponseDTO();
+            assignee.setId(assigneeId);
+            assignee.setUsername(row.get("username", String.class));
+            assignee.setEmail(row.get("email", String.class));
+            assignee.setRole(row.get("role", String.class));
+            assignee.setRewardPoints(row.get("assignee_points", Integer.class));
+        }
+        return new ReactiveIssue(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                Difficulty.valueOf(row.get("difficulty", String.class)),
+                IssueStatus.valueOf(row.get("status", String.class)),
+                assignee,
+                row.get("reward_points", Integer.class),
+                row.get("due_date", LocalDate.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("archived_at", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,149 @@
+package com.devvault.reactive;
+
+import com.devvault.exception.BadRequestException;
+import com.devvault.exception.ResourceNotFoundException;
+import com.devvault.security.JwtAuthenticationToken;
+import com.devvault.security.JwtUtil;
+import com.devvault.security.ReactiveRateLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Optional non-blocking read tier: serves GET /issues/{id}, /issues/filter, /users/leaderboard
+ * and /users/ping on Netty with R2DBC, against the same PostgreSQL schema as the servlet
+ * application, which keeps every write (and the Flyway migrations). Run it next to the servlet
+ * instances and route those GETs to it:
+ *   java -cp devvault.jar -Dloader.main=com.devvault.reactive.ReactiveReadApplication \
+ *        org.springframework.boot.loader.launch.PropertiesLauncher
+ * Configuration comes from application.properties plus application-reactive.properties.
+ *
+ * Only this class carries bean definitions, and it is skipped unless the context is reactive,
+ * so the servlet application's component scan never picks the tier up.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        FlywayAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Import({JwtUtil.class, ReactiveRateLimitFilter.class})
+public class ReactiveReadApplication {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveReadApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive")
+                .run(args);
+    }
+
+    // Tomcat is on the classpath for the servlet application and Boot would pick it for reactive apps too
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public ReactiveIssueRepository reactiveIssueRepository(DatabaseClient databaseClient,
+                                                           @Value("${devvault.reactive.stream-fetch-size:256}") int fetchSize,
+                                                           @Value("${devvault.reactive.stream-max-rows:100000}") int maxRows,
+                                                           @Value("${devvault.reactive.stream-idle-timeout:30s}") Duration idleTimeout) {
+        return new ReactiveIssueRepository(databaseClient, fetchSize, maxRows, idleTimeout);
+    }
+
+    @Bean
+    public ReactiveUserRepository reactiveUserRepository(DatabaseClient databaseClient) {
+        return new ReactiveUserRepository(databaseClient);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReactiveRevocationList reactiveRevocationList(DatabaseClient databaseClient,
+                                                         @Value("${devvault.revocation.sync-interval:30s}") Duration syncInterval) {
+        return new ReactiveRevocationList(databaseClient, syncInterval);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> readRoutes(ReactiveIssueRepository issueRepository,
+                                                     ReactiveUserRepository userRepository) {
+        ReactiveIssueHandler issues = new ReactiveIssueHandler(issueRepository);
+        ReactiveUserHandler users = new ReactiveUserHandler(userRepository);
+        return RouterFunctions.route()
+                .GET("/issues/filter", issues::filterIssues)
+                .GET("/issues/{id}", issues::getIssueById)
+                .GET("/users/leaderboard", users::getLeaderboard)
+                .GET("/users/ping", users::ping)
+                // same error bodies as GlobalExceptionHandler
+                .onError(ResourceNotFoundException.class,
+                        (e, request) -> error(HttpStatus.NOT_FOUND, "Not Found", e.getMessage()))
+                .onError(BadRequestException.class,
+                        (e, request) -> error(HttpStatus.BAD_REQUEST, "Bad Request", e.getMessage()))
+                .build();
+    }
+
+    // Same access rules as SecurityConfig for these endpoints; everything else lives on the servlet tier
+    @Bean
+    public SecurityWebFilterChain readTierSecurity(ServerHttpSecurity http, JwtUtil jwtUtil,
+                                                   ReactiveRevocationList revocationList) {
+        // the converter has already verified the token; only revocation is left to check
+        ReactiveAuthenticationManager notRevoked = authentication ->
+                revocationList.isRevoked((JwtAuthenticationToken) authentication)
+                        ? Mono.error(new BadCredentialsException("Token has been revoked"))
+                        : Mono.just(authentication);
+        AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(notRevoked);
+        jwtFilter.setServerAuthenticationConverter(exchange -> {
+            String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (header == null || !header.startsWith(BEARER_PREFIX)) {
+                return Mono.empty();
+            }
+            return Mono.justOrEmpty(jwtUtil.authenticate(header.substring(BEARER_PREFIX.length())));
+        });
+        jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/users/ping", "/actuator/health").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/issues/**", "/users/leaderboard").authenticated()
+                        .anyExchange().denyAll())
+                .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String error, String message) {
+        return ServerResponse.status(status).bodyValue(Map.of("error", error, "message", message));
+    }
+}
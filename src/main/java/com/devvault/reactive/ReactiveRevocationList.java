@@ -0,0 +1,91 @@
+package com.devvault.reactive;
+
+import com.devvault.security.JwtAuthenticationToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-only view of the revoked_tokens deny-list for the reactive tier. Revocations are written
+ * by TokenRevocationService in the servlet application; this side reloads the unexpired entries
+ * every sync interval and answers with the same semantics (revoked jti, or subject revoked after
+ * the token was issued).
+ */
+@Slf4j
+public class ReactiveRevocationList {
+
+    private final DatabaseClient databaseClient;
+    private final Duration syncInterval;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+    private Disposable sync;
+
+    public ReactiveRevocationList(DatabaseClient databaseClient, Duration syncInterval) {
+        this.databaseClient = databaseClient;
+        this.syncInterval = syncInterval;
+    }
+
+    public boolean isRevoked(JwtAuthenticationToken auth) {
+        Snapshot current = snapshot;
+        if (auth.getTokenId() != null && current.tokens().containsKey(auth.getTokenId())) {
+            return true;
+        }
+        Long cutoff = current.subjects().get(auth.getName());
+        // same comparison as TokenRevocationService
+        return cutoff != null && auth.getIssuedAtMillis() < cutoff;
+    }
+
+    public void start() {
+        sync = Flux.interval(Duration.ZERO, syncInterval)
+                .concatMap(tick -> reload()
+                        .onErrorResume(e -> {
+                            log.warn("Could not reload revoked tokens: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    public void stop() {
+        if (sync != null) {
+            sync.dispose();
+        }
+    }
+
+    public Mono<Void> reload() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        return databaseClient.sql("SELECT token_key, kind, revoked_at, expires_at FROM revoked_tokens " +
+                        "WHERE expires_at > :now")
+                .bind("now", now)
+                .map(row -> new Entry(row.get("token_key", String.class), row.get("kind", String.class),
+                        row.get("revoked_at", OffsetDateTime.class), row.get("expires_at", OffsetDateTime.class)))
+                .all()
+                .collectList()
+                .doOnNext(entries -> {
+                    Map<String, Long> tokens = new HashMap<>();
+                    Map<String, Long> subjects = new HashMap<>();
+                    for (Entry entry : entries) {
+                        if ("TOKEN".equals(entry.kind())) {
+                            tokens.put(entry.key(), entry.expiresAt().toInstant().toEpochMilli());
+                        } else {
+                            subjects.merge(entry.key(), entry.revokedAt().toInstant().toEpochMilli(), Math::max);
+                        }
+                    }
+                    snapshot = new Snapshot(tokens, subjects);
+                })
+                .then();
+    }
+
+    private record Entry(String key, String kind, OffsetDateTime revokedAt, OffsetDateTime expiresAt) {
+    }
+
+    private record Snapshot(Map<String, Long> tokens, Map<String, Long> subjects) {
+    }
+}
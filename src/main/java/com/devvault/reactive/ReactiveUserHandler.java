@@ -0,0 +1,34 @@
+package com.devvault.reactive;
+
+import com.devvault.dto.UserResponseDTO;
+import com.devvault.exception.BadRequestException;
+import com.devvault.model.LeaderboardWindow;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+public class ReactiveUserHandler {
+
+    private final ReactiveUserRepository userRepository;
+
+    public ReactiveUserHandler(ReactiveUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // GET /users/leaderboard?window=all|daily|weekly|monthly
+    public Mono<ServerResponse> getLeaderboard(ServerRequest request) {
+        String window = request.queryParam("window").orElse("all");
+        LeaderboardWindow leaderboardWindow;
+        try {
+            leaderboardWindow = LeaderboardWindow.valueOf(window.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new BadRequestException("Invalid window: " + window));
+        }
+        return ServerResponse.ok().body(userRepository.findLeaderboard(leaderboardWindow), UserResponseDTO.class);
+    }
+
+    // GET /users/ping
+    public Mono<ServerResponse> ping(ServerRequest request) {
+        return ServerResponse.ok().bodyValue("pong");
+    }
+}
@@ -0,0 +1,53 @@
+package com.devvault.reactive;
+
+import com.devvault.dto.UserResponseDTO;
+import com.devvault.model.LeaderboardWindow;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Leaderboard reads over R2DBC, same ranking as LeaderboardService: lifetime points from users,
+ * or points summed from the daily reward buckets of the window. Users are joined in, so either
+ * window is a single query.
+ */
+public class ReactiveUserRepository {
+
+    private static final int TOP_N = 10;
+
+    private static final String ALL_TIME = "SELECT u.id, u.username, u.email, u.role, u.reward_points AS points " +
+            "FROM users u ORDER BY u.reward_points DESC LIMIT " + TOP_N;
+    private static final String WINDOWED = "SELECT u.id, u.username, u.email, u.role, SUM(b.points) AS points " +
+            "FROM reward_buckets b JOIN users u ON u.id = b.user_id WHERE b.bucket_day >= :from " +
+            "GROUP BY u.id, u.username, u.email, u.role ORDER BY points DESC LIMIT " + TOP_N;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<UserResponseDTO> findLeaderboard(LeaderboardWindow window) {
+        DatabaseClient.GenericExecuteSpec spec;
+        if (window == LeaderboardWindow.ALL) {
+            spec = databaseClient.sql(ALL_TIME);
+        } else {
+            LocalDate from = LocalDate.now(ZoneOffset.UTC).minusDays(window.getDays() - 1L);
+            spec = databaseClient.sql(WINDOWED).bind("from", from);
+        }
+        return spec.map(ReactiveUserRepository::toUser).all();
+    }
+
+    private static UserResponseDTO toUser(Readable row) {
+        UserResponseDTO dto = new UserResponseDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setUsername(row.get("username", String.class));
+        dto.setEmail(row.get("email", String.class));
+        dto.setRole(row.get("role", String.class));
+        dto.setRewardPoints(row.get("points", Number.class).intValue()); // SUM is BIGINT on PostgreSQL
+        return dto;
+    }
+}
@@ -0,0 +1,29 @@
+package com.devvault.repository;
+
+import com.devvault.model.ArchivedIssue;
+import com.devvault.model.Difficulty;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedIssueRepository extends JpaRepository<ArchivedIssue, Long> {
+
+    long countByDifficulty(Difficulty difficulty);
+
+    // 🔸 Archived issues per difficulty: rows of [difficulty, count]
+    @Query("SELECT a.difficulty, COUNT(a) FROM ArchivedIssue a GROUP BY a.difficulty")
+    List<Object[]> countPerDifficulty();
+
+    // 🔸 Copy live rows into the archive (set-based, no entities loaded)
+    @Modifying
+    @Query("INSERT INTO ArchivedIssue (id, title, description, difficulty, status, assignedTo, rewardPoints, " +
+            "dueDate, createdAt, updatedAt, archivedAt) " +
+            "SELECT i.id, i.title, i.description, i.difficulty, i.status, i.assignedTo, i.rewardPoints, " +
+            "i.dueDate, i.createdAt, i.updatedAt, :archivedAt FROM Issue i WHERE i.id IN :ids")
+    int copyFromLive(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
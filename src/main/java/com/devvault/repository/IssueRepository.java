@@ -1,16 +1,38 @@
 package com.devvault.repository;
 
+import com.devvault.model.Difficulty;
 import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable; // ✅ Correct import
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IssueRepository extends JpaRepository<Issue, Long> {
 
+    // 🔸 Read-modify-write of one issue: SELECT ... FOR UPDATE, so concurrent writers (single or bulk)
+    // queue up and each one sees the state the previous one committed. The assignee is joined in
+    // the same statement, as findById does; only the issue row is locked (FOR UPDATE OF on PostgreSQL)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = "assignedTo")
+    @Query("SELECT i FROM Issue i WHERE i.id = :id")
+    Optional<Issue> findByIdForUpdate(@Param("id") Long id);
+
     // 🔸 Total issues in system
     @Query("SELECT COUNT(i) FROM Issue i")
     long countTotalIssues();
@@ -31,6 +53,9 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     @Query("SELECT SUM(i.rewardPoints) FROM Issue i WHERE i.assignedTo.id = :userId")
     Integer getTotalRewardPoints(@Param("userId") Long userId);
 
+    // 🔸 Is the issue assigned to the user with this email (ownership check)
+    boolean existsByIdAndAssignedToEmail(Long id, String email);
+
     // 🔸 Overdue issues
     @Query("SELECT i FROM Issue i WHERE i.dueDate < CURRENT_DATE")
     List<Issue> findOverdueIssues();
@@ -41,10 +66,86 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     // 🔸 Find issues by difficulty
     List<Issue> findByDifficulty(String difficulty);
 
-    // 🔹 Paginated filtering combinations
-    Page<Issue> findByStatusIgnoreCaseAndDifficultyIgnoreCase(String status, String difficulty, Pageable pageable);
+    // 🔹 Paginated CLOSED filters for IssueArchiveService (assignee fetched in the same query to avoid N+1)
+    @EntityGraph(attributePaths = "assignedTo")
+    Page<Issue> findByStatusAndDifficulty(IssueStatus status, Difficulty difficulty, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignedTo")
+    Page<Issue> findByStatus(IssueStatus status, Pageable pageable);
+
+    // 🔹 Same pages without the COUNT query; IssueCountService supplies the total
+    @EntityGraph(attributePaths = "assignedTo")
+    List<Issue> findListByStatusAndDifficulty(IssueStatus status, Difficulty difficulty, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignedTo")
+    List<Issue> findListByStatus(IssueStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignedTo")
+    List<Issue> findListByDifficulty(Difficulty difficulty, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignedTo")
+    @Query("SELECT i FROM Issue i")
+    List<Issue> findList(Pageable pageable);
+
+    long countByStatusAndDifficulty(IssueStatus status, Difficulty difficulty);
+
+    long countByStatus(IssueStatus status);
+
+    long countByDifficulty(Difficulty difficulty);
+
+    // 🔸 Issue counts per bucket: rows of [status, difficulty, count]
+    @Query("SELECT i.status, i.difficulty, COUNT(i) FROM Issue i GROUP BY i.status, i.difficulty")
+    List<Object[]> countPerBucket();
+
+    // 🔸 Same for a set of issues, read before a bulk change to them
+    @Query("SELECT i.status, i.difficulty, COUNT(i) FROM Issue i WHERE i.id IN :ids GROUP BY i.status, i.difficulty")
+    List<Object[]> countPerBucket(@Param("ids") Collection<Long> ids);
+
+    // 🔸 Newest issues of an assignee as scalar rows of [id, title, status, difficulty, updatedAt]
+    @Query("SELECT i.id, i.title, i.status, i.difficulty, i.updatedAt FROM Issue i " +
+            "WHERE i.assignedTo.id = :userId ORDER BY i.createdAt DESC, i.id DESC")
+    List<Object[]> findRecentByAssignee(@Param("userId") Long userId, Pageable pageable);
+
+    // 🔸 Issues per assignee and status for a set of issues: rows of [userId or null, status, count]
+    @Query("SELECT u.id, i.status, COUNT(i) FROM Issue i LEFT JOIN i.assignedTo u WHERE i.id IN :ids " +
+            "GROUP BY u.id, i.status")
+    List<Object[]> countPerAssigneeAndStatus(@Param("ids") Collection<Long> ids);
+
+    // 🔸 Creation time and text of every issue for rebuilding the in-memory indexes; scalar rows
+    //    streamed in fetch-size chunks
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT i.id, i.createdAt, i.title, i.description FROM Issue i")
+    Stream<Object[]> streamIndexedText();
+
+    // 🔸 Next batch of CLOSED issues due for archiving, locked so parallel archivers skip them
+    @Query(value = "SELECT id FROM issues WHERE status = 'CLOSED' AND COALESCE(updated_at, created_at) < :cutoff " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM Issue i WHERE i.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 🔹 Set-based bulk updates (BulkIssueService); @PreUpdate doesn't run, so updatedAt is set explicitly
+    @Modifying
+    @Query("UPDATE Issue i SET i.assignedTo = :user, i.status = com.devvault.model.IssueStatus.CLAIMED, " +
+            "i.updatedAt = :now WHERE i.id IN :ids")
+    int assignAll(@Param("ids") Collection<Long> ids, @Param("user") User user, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Issue i SET i.status = :status, i.updatedAt = :now WHERE i.id IN :ids AND i.status <> :status")
+    int updateStatusAll(@Param("ids") Collection<Long> ids, @Param("status") IssueStatus status,
+                        @Param("now") LocalDateTime now);
 
-    Page<Issue> findByStatusIgnoreCase(String status, Pageable pageable);
+    @Modifying
+    @Query("UPDATE Issue i SET i.rewardPoints = :points WHERE i.id IN :ids AND i.difficulty = :difficulty " +
+            "AND i.status <> com.devvault.model.IssueStatus.CLOSED AND i.assignedTo IS NOT NULL")
+    int setRewardPointsForClose(@Param("ids") Collection<Long> ids, @Param("difficulty") Difficulty difficulty,
+                                @Param("points") int points);
 
-    Page<Issue> findByDifficultyIgnoreCase(String difficulty, Pageable pageable);
+    // 🔸 Rewards owed per assignee if these issues are closed now: rows of [userId, difficulty, count]
+    @Query("SELECT i.assignedTo.id, i.difficulty, COUNT(i) FROM Issue i WHERE i.id IN :ids " +
+            "AND i.status <> com.devvault.model.IssueStatus.CLOSED AND i.assignedTo IS NOT NULL " +
+            "GROUP BY i.assignedTo.id, i.difficulty")
+    List<Object[]> countClosableByAssignee(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,46 @@
+package com.devvault.repository;
+
+import com.devvault.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 🔸 Due events that are the oldest pending event of their aggregate (keeps per-aggregate order),
+    //    locked so concurrent dispatchers on other instances skip them
+    @Query(value = """
+            SELECT e.* FROM outbox_events e
+            WHERE e.processed_at IS NULL AND e.next_attempt_at <= :now
+              AND NOT EXISTS (SELECT 1 FROM outbox_events p
+                              WHERE p.aggregate_type = e.aggregate_type AND p.aggregate_id = e.aggregate_id
+                                AND p.processed_at IS NULL AND p.id < e.id)
+            ORDER BY e.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :leaseUntil WHERE e.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") Instant leaseUntil);
+
+    // 🔸 Returns 0 if another dispatcher already processed it (idempotency guard)
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.processedAt = :now WHERE e.id = :id AND e.processedAt IS NULL")
+    int markProcessed(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+            "e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") Instant before);
+}
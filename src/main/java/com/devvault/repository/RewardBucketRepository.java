@@ -0,0 +1,39 @@
+package com.devvault.repository;
+
+import com.devvault.model.RewardBucket;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RewardBucketRepository extends JpaRepository<RewardBucket, RewardBucket.Key> {
+
+    // 🔸 Add points to an existing bucket; returns 0 if the bucket doesn't exist yet
+    @Modifying
+    @Transactional
+    @Query("UPDATE RewardBucket b SET b.points = b.points + :points WHERE b.day = :day AND b.userId = :userId")
+    int addPoints(@Param("day") LocalDate day, @Param("userId") Long userId, @Param("points") int points);
+
+    // 🔸 Create the bucket; 0 if a concurrent reward created it first (no error, so the surrounding
+    //    transaction stays usable - a failed INSERT would abort it on PostgreSQL)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO reward_buckets (bucket_day, user_id, points) VALUES (:day, :userId, :points) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("day") LocalDate day, @Param("userId") Long userId, @Param("points") int points);
+
+    // 🏅 [userId, points] ranked over the buckets since the given day
+    @Query("SELECT b.userId, SUM(b.points) FROM RewardBucket b WHERE b.day >= :from " +
+            "GROUP BY b.userId ORDER BY SUM(b.points) DESC")
+    List<Object[]> findTopUsersSince(@Param("from") LocalDate from, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RewardBucket b WHERE b.day < :before")
+    int deleteOlderThan(@Param("before") LocalDate before);
+}
@@ -0,0 +1,24 @@
+package com.devvault.repository;
+
+import com.devvault.model.UserIssueStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserIssueStatsRepository extends JpaRepository<UserIssueStats, Long> {
+
+    // 🔸 Atomic increments (negative to decrement); returns 0 if the user has no row yet
+    @Modifying
+    @Query("UPDATE UserIssueStats s SET s.openCount = s.openCount + :open, s.claimedCount = s.claimedCount + :claimed, " +
+            "s.closedCount = s.closedCount + :closed WHERE s.userId = :userId")
+    int addCounts(@Param("userId") Long userId, @Param("open") int open, @Param("claimed") int claimed,
+                  @Param("closed") int closed);
+
+    // 🔸 First row of a user; 0 if a concurrent write created it first (no error, the transaction stays usable)
+    @Modifying
+    @Query(value = "INSERT INTO user_issue_stats (user_id, open_count, claimed_count, closed_count) " +
+            "VALUES (:userId, :open, :claimed, :closed) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("open") int open, @Param("claimed") int claimed,
+                       @Param("closed") int closed);
+}
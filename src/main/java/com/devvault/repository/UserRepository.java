@@ -1,17 +1,54 @@
 package com.devvault.repository;
 
+import com.devvault.config.SecondLevelCacheConfig;
+import com.devvault.model.Role;
 import com.devvault.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    Optional<User> findByEmail(String email);
+// findByEmail comes from UserRepositoryCustom (natural-id lookup through the second-level cache)
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     boolean existsByEmail(String email);
-    // 🏅 Top 10 users by reward points
+
+    // 🔸 Login reads the credentials from the database, never from the second-level cache: a
+    //    password or role changed on another instance must take effect there at once
+    @Query("SELECT u.password AS password, u.role AS role FROM User u WHERE u.email = :email")
+    Optional<Credentials> findCredentialsByEmail(@Param("email") String email);
+
+    interface Credentials {
+        String getPassword();
+
+        Role getRole();
+    }
+
+    // 🔸 Which of the given emails are already registered (single query)
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 🔸 Atomic increment, no read-modify-write race between concurrent closes.
+    // Native, synchronized on a space no entity or query uses: a bulk update on User would drop
+    // the whole users cache region, so callers evict just this user (UserCacheService.rewarded)
+    @Modifying
+    @Query(value = "UPDATE users SET reward_points = reward_points + :points WHERE id = :userId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_reward_points"))
+    int addRewardPoints(@Param("userId") Long userId, @Param("points") int points);
+
+    // 🏅 Top 10 users by reward points (query cache; evicted when points are credited)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.LEADERBOARD)
+    })
     List<User> findTop10ByOrderByRewardPointsDesc();
 }
 
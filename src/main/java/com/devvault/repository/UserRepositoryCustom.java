@@ -0,0 +1,11 @@
+package com.devvault.repository;
+
+import com.devvault.model.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // 🔸 By natural id: served from the users-by-email and users cache regions when warm
+    Optional<User> findByEmail(String email);
+}
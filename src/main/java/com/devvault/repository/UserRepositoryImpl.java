@@ -0,0 +1,25 @@
+package com.devvault.repository;
+
+import com.devvault.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// A derived findByEmail would run a query every time, and query results bypass the entity cache.
+// Transactional like the built-in repository methods, so the session outlives the unwrap
+@Transactional(readOnly = true)
+class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
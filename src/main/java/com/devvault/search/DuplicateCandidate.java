@@ -0,0 +1,5 @@
+package com.devvault.search;
+
+/** An indexed issue whose text is estimated to overlap the query text by {@code similarity} (Jaccard, 0..1). */
+public record DuplicateCandidate(long issueId, double similarity) {
+}
@@ -0,0 +1,289 @@
+package com.devvault.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * MinHash/LSH index for near-duplicate issues. Every issue occupies a slot holding its id and
+ * its {@value MinHash#HASHES}-byte signature. For each LSH band, slots whose band bytes hash to
+ * the same bucket are chained through an int array, so apart from the id-to-slot map there are
+ * no per-entry objects: ~230 bytes of arrays per issue.
+ * A lookup walks one chain per band and verifies candidates against the full signature.
+ */
+@Component
+public class DuplicateIndex implements IssueTextIndex {
+
+    private static final int NONE = -1;
+    private static final long FREE = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final double threshold;
+
+    private Map<Long, Integer> slotById = new HashMap<>();
+    private long[] ids;
+    private byte[] signatures;
+    private int[][] heads;
+    private int[][] next;
+    private int highWater;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    public DuplicateIndex(@Value("${devvault.dedup.threshold:0.6}") double threshold) {
+        this.threshold = threshold;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void index(long issueId, long createdAt, String title, String description) {
+        byte[] signature = MinHash.signature(title, description);
+        lock.writeLock().lock();
+        try {
+            removeLocked(issueId);
+            if (signature != null) {
+                insertLocked(issueId, signature);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long issueId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(issueId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public DuplicateIndex emptyCopy() {
+        return new DuplicateIndex(threshold);
+    }
+
+    @Override
+    public void replaceWith(IssueTextIndex rebuilt) {
+        DuplicateIndex other = (DuplicateIndex) rebuilt;
+        lock.writeLock().lock();
+        try {
+            slotById = other.slotById;
+            ids = other.ids;
+            signatures = other.signatures;
+            heads = other.heads;
+            next = other.next;
+            highWater = other.highWater;
+            freeSlots = other.freeSlots;
+            freeCount = other.freeCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Indexed issues similar to the given text, most similar first. */
+    public List<DuplicateCandidate> findSimilar(String title, String description, int limit) {
+        byte[] signature = MinHash.signature(title, description);
+        if (signature == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return findSimilarLocked(signature, 0, FREE, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Indexed issues similar to an indexed issue (excluding itself), most similar first. */
+    public List<DuplicateCandidate> findSimilar(long issueId, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotById.get(issueId);
+            if (slot == null) {
+                return List.of();
+            }
+            return findSimilarLocked(signatures, slot * MinHash.HASHES, issueId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Groups of issues connected by pairwise similarity above the threshold, largest first. */
+    public List<List<Long>> clusters(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int[] parent = new int[highWater];
+            for (int i = 0; i < highWater; i++) {
+                parent[i] = i;
+            }
+            for (int slot = 0; slot < highWater; slot++) {
+                if (ids[slot] == FREE) {
+                    continue;
+                }
+                int from = slot;
+                forEachCandidate(signatures, slot * MinHash.HASHES, candidate -> {
+                    if (candidate > from) {
+                        union(parent, from, candidate);
+                    }
+                });
+            }
+            Map<Integer, List<Long>> groups = new HashMap<>();
+            for (int slot = 0; slot < highWater; slot++) {
+                if (ids[slot] != FREE) {
+                    groups.computeIfAbsent(find(parent, slot), root -> new ArrayList<>()).add(ids[slot]);
+                }
+            }
+            return groups.values().stream()
+                    .filter(group -> group.size() > 1)
+                    .peek(Collections::sort)
+                    .sorted(Comparator.<List<Long>>comparingInt(List::size).reversed())
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<DuplicateCandidate> findSimilarLocked(byte[] signature, int offset, long excludeId, int limit) {
+        List<DuplicateCandidate> result = new ArrayList<>();
+        forEachCandidate(signature, offset, slot -> {
+            if (ids[slot] != excludeId) {
+                result.add(new DuplicateCandidate(ids[slot],
+                        MinHash.similarity(signature, offset, signatures, slot * MinHash.HASHES)));
+            }
+        });
+        result.sort(Comparator.comparingDouble(DuplicateCandidate::similarity).reversed());
+        return result.size() > limit ? List.copyOf(result.subList(0, limit)) : result;
+    }
+
+    private interface SlotConsumer {
+        void accept(int slot);
+    }
+
+    // Distinct slots sharing at least one band with the signature and above the similarity threshold
+    private void forEachCandidate(byte[] signature, int offset, SlotConsumer consumer) {
+        Set<Integer> seen = new HashSet<>();
+        int mask = heads[0].length - 1;
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            long key = MinHash.bandKey(signature, offset, band);
+            for (int slot = heads[band][bucket(key, mask)]; slot != NONE; slot = next[band][slot]) {
+                if (MinHash.bandKey(signatures, slot * MinHash.HASHES, band) == key && seen.add(slot)
+                        && (signature != signatures || slot * MinHash.HASHES != offset)
+                        && MinHash.similarity(signature, offset, signatures, slot * MinHash.HASHES) >= threshold) {
+                    consumer.accept(slot);
+                }
+            }
+        }
+    }
+
+    private void insertLocked(long issueId, byte[] signature) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == ids.length) {
+                grow();
+            }
+            slot = highWater++;
+        }
+        ids[slot] = issueId;
+        System.arraycopy(signature, 0, signatures, slot * MinHash.HASHES, MinHash.HASHES);
+        link(slot);
+        slotById.put(issueId, slot);
+    }
+
+    private void removeLocked(long issueId) {
+        Integer slot = slotById.remove(issueId);
+        if (slot == null) {
+            return;
+        }
+        int mask = heads[0].length - 1;
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            int bucket = bucket(MinHash.bandKey(signatures, slot * MinHash.HASHES, band), mask);
+            if (heads[band][bucket] == slot) {
+                heads[band][bucket] = next[band][slot];
+            } else {
+                int previous = heads[band][bucket];
+                while (next[band][previous] != slot) {
+                    previous = next[band][previous];
+                }
+                next[band][previous] = next[band][slot];
+            }
+        }
+        ids[slot] = FREE;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void link(int slot) {
+        int mask = heads[0].length - 1;
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            int bucket = bucket(MinHash.bandKey(signatures, slot * MinHash.HASHES, band), mask);
+            next[band][slot] = heads[band][bucket];
+            heads[band][bucket] = slot;
+        }
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        Arrays.fill(ids, FREE);
+        signatures = new byte[capacity * MinHash.HASHES];
+        heads = new int[MinHash.BANDS][capacity];
+        next = new int[MinHash.BANDS][capacity];
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            Arrays.fill(heads[band], NONE);
+        }
+    }
+
+    // Doubles every array and re-chains the live slots into the larger bucket tables
+    private void grow() {
+        long[] oldIds = ids;
+        byte[] oldSignatures = signatures;
+        allocate(oldIds.length * 2);
+        System.arraycopy(oldIds, 0, ids, 0, oldIds.length);
+        System.arraycopy(oldSignatures, 0, signatures, 0, oldSignatures.length);
+        for (int slot = 0; slot < highWater; slot++) {
+            if (ids[slot] != FREE) {
+                link(slot);
+            }
+        }
+    }
+
+    private static int bucket(long key, int mask) {
+        return (int) MinHash.mix(key) & mask;
+    }
+
+    private static int find(int[] parent, int slot) {
+        while (parent[slot] != slot) {
+            parent[slot] = parent[parent[slot]];
+            slot = parent[slot];
+        }
+        return slot;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.devvault.search;
+
+import com.devvault.model.Issue;
+import com.devvault.repository.IssueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.devvault.util.Transactions.afterCommit;
+
+/**
+ * Feeds every IssueTextIndex from the write paths. Changes made inside a transaction are applied
+ * after it commits, so a rolled-back write never shows up in an index. At startup the indexes
+ * are rebuilt, on a background thread by default, from a streamed scan of the issues table into
+ * fresh copies that then replace the live ones: searches keep being served meanwhile. Writes
+ * committed during the scan go to the live indexes and are replayed onto the copies before the
+ * swap, so an issue deleted after its row was streamed doesn't come back.
+ */
+@Slf4j
+@Component
+public class IssueIndexer {
+
+    private final List<IssueTextIndex> indexes;
+    private final IssueRepository issueRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean rebuildInBackground;
+
+    // Changes committed while a rebuild runs, in commit order; null when none is running
+    private List<Consumer<IssueTextIndex>> pending;
+
+    public IssueIndexer(List<IssueTextIndex> indexes, IssueRepository issueRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${devvault.search.rebuild-in-background:true}") boolean rebuildInBackground) {
+        this.indexes = indexes;
+        this.issueRepository = issueRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildInBackground = rebuildInBackground;
+    }
+
+    public void indexed(Issue issue) {
+        long id = issue.getId();
+        long createdAt = epochMillis(issue.getCreatedAt());
+        String title = issue.getTitle();
+        String description = issue.getDescription();
+        afterCommit(() -> apply(index -> index.index(id, createdAt, title, description)));
+    }
+
+    public void removed(Collection<Long> issueIds) {
+        List<Long> ids = List.copyOf(issueIds);
+        afterCommit(() -> apply(index -> ids.forEach(index::remove)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAtStartup() {
+        if (!rebuildInBackground) {
+            rebuild();
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Issue text index rebuild failed; the indexes only hold issues written since startup", e);
+            }
+        }, "issue-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void rebuild() {
+        synchronized (this) {
+            if (pending != null) {
+                log.info("Issue text index rebuild already running");
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        try {
+            rebuildAndSwap();
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+
+    private void rebuildAndSwap() {
+        long start = System.nanoTime();
+        List<IssueTextIndex> rebuilt = indexes.stream().map(IssueTextIndex::emptyCopy).toList();
+        long count = readOnlyTransaction.execute(status -> {
+            long n = 0;
+            try (Stream<Object[]> rows = issueRepository.streamIndexedText()) {
+                for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                    long id = (Long) row[0];
+                    long createdAt = epochMillis((LocalDateTime) row[1]);
+                    for (IssueTextIndex index : rebuilt) {
+                        index.index(id, createdAt, (String) row[2], (String) row[3]);
+                    }
+                    n++;
+                }
+            }
+            return n;
+        });
+        synchronized (this) {
+            pending.forEach(rebuilt::forEach);
+            for (int i = 0; i < indexes.size(); i++) {
+                indexes.get(i).replaceWith(rebuilt.get(i));
+            }
+        }
+        log.info("Issue text indexes rebuilt from {} issues in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Live indexes first; while a rebuild runs the change is also kept for its copies
+    private synchronized void apply(Consumer<IssueTextIndex> change) {
+        indexes.forEach(change);
+        if (pending != null) {
+            pending.add(change);
+        }
+    }
+
+    // Creation times are stored without a zone; any fixed offset keeps their order
+    private static long epochMillis(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+    }
+}
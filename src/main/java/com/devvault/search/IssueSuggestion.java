@@ -0,0 +1,4 @@
+package com.devvault.search;
+
+public record IssueSuggestion(long id, String title) {
+}
@@ -0,0 +1,19 @@
+package com.devvault.search;
+
+/**
+ * In-memory index over issue text, kept in sync by IssueIndexer. Implementations must be
+ * thread-safe; {@code index} on an already indexed id replaces the previous text.
+ * {@code createdAt} is the issue's creation time in epoch millis, for indexes that rank by recency.
+ */
+public interface IssueTextIndex {
+
+    void index(long issueId, long createdAt, String title, String description);
+
+    void remove(long issueId);
+
+    /** A new, empty index with the same settings, for a rebuild off to the side. */
+    IssueTextIndex emptyCopy();
+
+    /** Takes over the contents of {@code rebuilt} (made by {@link #emptyCopy}), which is not used afterwards. */
+    void replaceWith(IssueTextIndex rebuilt);
+}
@@ -0,0 +1,100 @@
+package com.devvault.search;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * b-bit MinHash signatures (Li &amp; König): {@value #HASHES} min-hashes over character 4-gram
+ * shingles of the normalized text, keeping 8 bits of each. Two signatures agree in a position
+ * with probability J + (1 - J) / 256 for Jaccard similarity J, which {@link #similarity} inverts.
+ * {@value #BANDS} bands of {@value #ROWS} positions give LSH buckets; a pair lands in at least
+ * one common bucket with probability 1 - (1 - J^6)^16, i.e. ~50% at J=0.6 and ~97% at J=0.8.
+ */
+public final class MinHash {
+
+    public static final int HASHES = 96;
+    public static final int BANDS = 16;
+    public static final int ROWS = HASHES / BANDS;
+
+    private static final int SHINGLE = 4;
+    private static final long[] MULTIPLIERS = new long[HASHES];
+    private static final long[] ADDENDS = new long[HASHES];
+
+    static {
+        // Fixed seed: signatures must be comparable across restarts and instances
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        for (int i = 0; i < HASHES; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1;
+            ADDENDS[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {}
+
+    /** Signature of title + description, or null if there is no text to compare. */
+    public static byte[] signature(String title, String description) {
+        String text = TextNormalizer.normalize((title == null ? "" : title) + " " + (description == null ? "" : description));
+        if (text.isEmpty()) {
+            return null;
+        }
+        long[] mins = new long[HASHES];
+        Arrays.fill(mins, Long.MAX_VALUE);
+        int shingles = Math.max(1, text.length() - SHINGLE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long base = mix(shingleKey(text, start));
+            for (int i = 0; i < HASHES; i++) {
+                // Flip the sign bit so the signed comparison orders the hashes as unsigned values
+                long h = (base * MULTIPLIERS[i] + ADDENDS[i]) ^ Long.MIN_VALUE;
+                if (h < mins[i]) {
+                    mins[i] = h;
+                }
+            }
+        }
+        byte[] signature = new byte[HASHES];
+        for (int i = 0; i < HASHES; i++) {
+            // Middle bits: the minimum's top bits are biased towards zero
+            signature[i] = (byte) (mins[i] >>> 32);
+        }
+        return signature;
+    }
+
+    /** Estimated Jaccard similarity of two texts from their signatures at the given offsets. */
+    public static double similarity(byte[] a, int aOffset, byte[] b, int bOffset) {
+        int matches = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[aOffset + i] == b[bOffset + i]) {
+                matches++;
+            }
+        }
+        double agreement = (double) matches / HASHES;
+        return Math.max(0, (agreement - 1.0 / 256) / (1 - 1.0 / 256));
+    }
+
+    /** The {@value #ROWS} signature bytes of a band packed into one key. */
+    static long bandKey(byte[] signature, int offset, int band) {
+        long key = band;
+        int from = offset + band * ROWS;
+        for (int i = 0; i < ROWS; i++) {
+            key = (key << 8) | (signature[from + i] & 0xFF);
+        }
+        return key;
+    }
+
+    static long mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+
+    private static long shingleKey(String text, int start) {
+        long key = 0;
+        int end = Math.min(text.length(), start + SHINGLE);
+        for (int i = start; i < end; i++) {
+            key = (key << 16) | text.charAt(i);
+        }
+        return key;
+    }
+}
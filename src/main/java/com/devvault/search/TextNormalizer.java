@@ -0,0 +1,28 @@
+package com.devvault.search;
+
+// Shared by the text indexes so they agree on what a token is
+public final class TextNormalizer {
+
+    private TextNormalizer() {}
+
+    // Lower-case letters and digits; every other run of characters becomes one space
+    public static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+                space = false;
+            } else if (!space) {
+                normalized.append(' ');
+                space = true;
+            }
+        }
+        int length = normalized.length();
+        if (length > 0 && normalized.charAt(length - 1) == ' ') {
+            normalized.setLength(length - 1);
+        }
+        return normalized.toString();
+    }
+}
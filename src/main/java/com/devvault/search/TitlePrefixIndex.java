@@ -0,0 +1,279 @@
+package com.devvault.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Autocomplete over issue titles. Titles are normalized and split into tokens; a sorted token
+ * dictionary maps each token to the issues containing it, ordered by creation time (then id), so
+ * memory is two longs per (issue, distinct title token) plus the titles themselves.
+ * <p>
+ * A query matches issues whose title contains every complete token of the prefix and a token
+ * starting with its last, partial token ("login but" matches "Login button broken"). Newer
+ * issues rank first - by creation time, not id: ids are handed out in pooled blocks, so a higher
+ * id isn't necessarily a newer issue. The postings of the expansions of the partial token (or,
+ * when shorter, those of the rarest complete token) are merged from the end, so only as many
+ * issues are touched as are returned or rejected.
+ */
+@Component
+public class TitlePrefixIndex implements IssueTextIndex {
+
+    // Bounds the merge for very short prefixes; the expansions with the newest issues win
+    private static final int MAX_EXPANSIONS = 512;
+    private static final int MAX_CANDIDATES = 10_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private TreeMap<String, Postings> tokens = new TreeMap<>();
+    private Map<Long, Entry> entries = new HashMap<>();
+
+    private record Entry(long createdAt, String title) {}
+
+    @Override
+    public void index(long issueId, long createdAt, String title, String description) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(issueId);
+            if (title != null) {
+                Set<String> distinct = tokenize(title);
+                if (!distinct.isEmpty()) {
+                    entries.put(issueId, new Entry(createdAt, title));
+                    distinct.forEach(token -> tokens.computeIfAbsent(token, t -> new Postings()).add(createdAt, issueId));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long issueId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(issueId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public TitlePrefixIndex emptyCopy() {
+        return new TitlePrefixIndex();
+    }
+
+    @Override
+    public void replaceWith(IssueTextIndex rebuilt) {
+        TitlePrefixIndex other = (TitlePrefixIndex) rebuilt;
+        lock.writeLock().lock();
+        try {
+            tokens = other.tokens;
+            entries = other.entries;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<IssueSuggestion> suggest(String prefix, int limit) {
+        String normalized = TextNormalizer.normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String[] parts = normalized.split(" ");
+        // A trailing separator means the last token is complete too
+        boolean lastIsComplete = !prefix.isEmpty() && !Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1));
+
+        lock.readLock().lock();
+        try {
+            List<Postings> required = new ArrayList<>();
+            for (int i = 0; i < parts.length - (lastIsComplete ? 0 : 1); i++) {
+                Postings postings = tokens.get(parts[i]);
+                if (postings == null) {
+                    return List.of();
+                }
+                required.add(postings);
+            }
+            // Drive the merge from whichever side touches fewer ids
+            required.sort(Comparator.comparingInt(p -> p.size));
+            if (lastIsComplete) {
+                return newestMatches(List.of(required.remove(0)), required, null, limit);
+            }
+            String last = parts[parts.length - 1];
+            List<Postings> expansions = newestExpansions(tokens.subMap(last, last + Character.MAX_VALUE).values());
+            if (expansions.isEmpty()) {
+                return List.of();
+            }
+            long expanded = 0;
+            for (Postings postings : expansions) {
+                expanded += postings.size;
+            }
+            if (!required.isEmpty() && required.get(0).size < expanded) {
+                return newestMatches(List.of(required.remove(0)), required, expansions, limit);
+            }
+            return newestMatches(expansions, required, null, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The MAX_EXPANSIONS postings whose newest issue is newest, so a short prefix still finds recent titles
+    private static List<Postings> newestExpansions(Collection<Postings> candidates) {
+        if (candidates.size() <= MAX_EXPANSIONS) {
+            return new ArrayList<>(candidates);
+        }
+        PriorityQueue<Postings> newest = new PriorityQueue<>(MAX_EXPANSIONS + 1,
+                (a, b) -> a.compare(a.size - 1, b.times[b.size - 1], b.ids[b.size - 1]));
+        for (Postings postings : candidates) {
+            newest.add(postings);
+            if (newest.size() > MAX_EXPANSIONS) {
+                newest.poll();
+            }
+        }
+        return new ArrayList<>(newest);
+    }
+
+    /**
+     * k-way merge of the driving postings from their newest issues down, keeping issues present in
+     * every required list and, if anyOf is set, in at least one of those.
+     */
+    private List<IssueSuggestion> newestMatches(List<Postings> expansions, List<Postings> required,
+                                                List<Postings> anyOf, int limit) {
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, expansions.size()), (a, b) -> {
+            Postings pa = expansions.get(a[0]);
+            Postings pb = expansions.get(b[0]);
+            return pb.compare(b[1], pa.times[a[1]], pa.ids[a[1]]);
+        });
+        for (int i = 0; i < expansions.size(); i++) {
+            heads.add(new int[]{i, expansions.get(i).size - 1});
+        }
+        List<IssueSuggestion> result = new ArrayList<>(limit);
+        long previous = Long.MIN_VALUE;
+        int examined = 0;
+        while (!heads.isEmpty() && result.size() < limit && examined++ < MAX_CANDIDATES) {
+            int[] head = heads.poll();
+            Postings postings = expansions.get(head[0]);
+            long createdAt = postings.times[head[1]];
+            long id = postings.ids[head[1]];
+            if (--head[1] >= 0) {
+                heads.add(head);
+            }
+            if (id == previous) {
+                continue;
+            }
+            previous = id;
+            if (containsAll(required, createdAt, id) && (anyOf == null || containsAny(anyOf, createdAt, id))) {
+                result.add(new IssueSuggestion(id, entries.get(id).title()));
+            }
+        }
+        return result;
+    }
+
+    private void removeLocked(long issueId) {
+        Entry entry = entries.remove(issueId);
+        if (entry == null) {
+            return;
+        }
+        for (String token : tokenize(entry.title())) {
+            Postings postings = tokens.get(token);
+            if (postings != null && postings.remove(entry.createdAt(), issueId) && postings.size == 0) {
+                tokens.remove(token);
+            }
+        }
+    }
+
+    private static boolean containsAll(List<Postings> lists, long createdAt, long id) {
+        for (Postings postings : lists) {
+            if (!postings.contains(createdAt, id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsAny(List<Postings> lists, long createdAt, long id) {
+        for (Postings postings : lists) {
+            if (postings.contains(createdAt, id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> tokenize(String title) {
+        String normalized = TextNormalizer.normalize(title);
+        return normalized.isEmpty() ? Set.of() : new HashSet<>(Arrays.asList(normalized.split(" ")));
+    }
+
+    // Issues sorted by (createdAt, id) in two parallel arrays; appends are O(1) in the usual case of
+    // a new (newest) issue
+    private static final class Postings {
+        private long[] times = new long[2];
+        private long[] ids = new long[2];
+        private int size;
+
+        void add(long createdAt, long id) {
+            int at = size == 0 || compare(size - 1, createdAt, id) < 0 ? -size - 1 : search(createdAt, id);
+            if (at >= 0) {
+                return;
+            }
+            int insert = -at - 1;
+            if (size == ids.length) {
+                times = Arrays.copyOf(times, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(times, insert, times, insert + 1, size - insert);
+            System.arraycopy(ids, insert, ids, insert + 1, size - insert);
+            times[insert] = createdAt;
+            ids[insert] = id;
+            size++;
+        }
+
+        boolean remove(long createdAt, long id) {
+            int at = search(createdAt, id);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(times, at + 1, times, at, size - at - 1);
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long createdAt, long id) {
+            return search(createdAt, id) >= 0;
+        }
+
+        // Entry i against (createdAt, id): negative if it is older
+        int compare(int i, long createdAt, long id) {
+            int byTime = Long.compare(times[i], createdAt);
+            return byTime != 0 ? byTime : Long.compare(ids[i], id);
+        }
+
+        // Index of the entry, or (-(insertion point) - 1) as Arrays.binarySearch
+        private int search(long createdAt, long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int c = compare(mid, createdAt, id);
+                if (c < 0) {
+                    low = mid + 1;
+                } else if (c > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
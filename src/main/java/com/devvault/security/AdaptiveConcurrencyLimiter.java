@@ -0,0 +1,60 @@
+package com.devvault.security;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AIMD concurrency limit: grows by one while requests finish under the target latency and
+ * the limit is actually being used, and shrinks by 10% (at most once per target-latency
+ * window) when they don't. Requests over the limit are shed instead of queueing on the DB pool.
+ */
+class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime());
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos) {
+        this.limit = new AtomicInteger(initialLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+    }
+
+    boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit.get()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void release(long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+        if (latencyNanos > targetLatencyNanos) {
+            long now = System.nanoTime();
+            long last = lastDecreaseNanos.get();
+            if (now - last >= targetLatencyNanos && lastDecreaseNanos.compareAndSet(last, now)) {
+                limit.updateAndGet(l -> Math.max(minLimit, (int) (l * 0.9)));
+            }
+        } else if (current * 2 >= limit.get()) {
+            limit.updateAndGet(l -> Math.min(maxLimit, l + 1));
+        }
+    }
+
+    // For requests whose duration says nothing about server latency (a stream paced by its client)
+    void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    int getLimit() {
+        return limit.get();
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,25 @@
+package com.devvault.security;
+
+import com.devvault.repository.IssueRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+// Used from @PreAuthorize("... or @issueSecurity.isOwner(#id)") in IssueController
+@Component("issueSecurity")
+public class IssueSecurity {
+
+    private final IssueRepository issueRepository;
+
+    public IssueSecurity(IssueRepository issueRepository) {
+        this.issueRepository = issueRepository;
+    }
+
+    public boolean isOwner(Long issueId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || issueId == null) {
+            return false;
+        }
+        return issueRepository.existsByIdAndAssignedToEmail(issueId, auth.getName());
+    }
+}
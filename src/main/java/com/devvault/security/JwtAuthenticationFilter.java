@@ -1,26 +1,35 @@
 package com.devvault.security;
 
+import com.devvault.monitoring.AuthPhaseEvent;
+import com.devvault.monitoring.RequestPhases;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ALREADY_FILTERED_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".FILTERED";
+
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService revocationService;
+    private final VerifiedTokenCache tokenCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   TokenRevocationService revocationService,
+                                   @Value("${devvault.jwt.cache-size:4096}") int cacheSize) {
         this.jwtUtil = jwtUtil;
+        this.revocationService = revocationService;
+        this.tokenCache = cacheSize > 0 ? new VerifiedTokenCache(cacheSize) : null;
     }
 
     @Override
@@ -30,27 +39,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        final String token = authHeader.substring(7);
-
-        if (jwtUtil.isTokenValid(token)) {
-            String email = jwtUtil.getEmailFromToken(token);
-            String role = jwtUtil.getRoleFromToken(token);
-
-            var auth = new UsernamePasswordAuthenticationToken(
-                    email,
-                    null,
-                    Collections.singleton(() -> "ROLE_" + role)
-            );
-            auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        AuthPhaseEvent event = new AuthPhaseEvent();
+        event.begin();
 
+        // Fast path: a token we already verified is served from the cache without parsing or allocating
+        JwtAuthenticationToken auth = tokenCache != null ? tokenCache.get(authHeader, System.currentTimeMillis()) : null;
+        if (auth == null) {
+            auth = jwtUtil.authenticate(authHeader.substring(BEARER_PREFIX.length()));
+            if (auth != null && tokenCache != null) {
+                tokenCache.put(authHeader, auth);
+            }
+        }
+        // Checked on every request (also for cached tokens) so revocation takes effect immediately
+        if (auth != null && revocationService.isRevoked(auth)) {
+            auth = null;
+        }
+        if (auth != null) {
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
 
+        event.setAuthenticated(auth != null);
+        RequestPhases.commit(event);
+
         filterChain.doFilter(request, response);
     }
+
+    // OncePerRequestFilter would otherwise concatenate this name on every request
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return ALREADY_FILTERED_ATTRIBUTE;
+    }
 }
@@ -0,0 +1,79 @@
+package com.devvault.security;
+
+import com.devvault.model.Role;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Authentication for a verified JWT. Instances are immutable and cached per token by
+ * {@link VerifiedTokenCache}, so the same object is reused across requests; request details
+ * are therefore built lazily from the current request instead of being stored.
+ */
+public class JwtAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final String tokenId;
+    private final String email;
+    private final Role role;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    public JwtAuthenticationToken(String tokenId, String email, Role role, long issuedAtMillis, long expiresAtMillis) {
+        super(RoleAuthorities.of(role));
+        this.tokenId = tokenId;
+        this.email = email;
+        this.role = role;
+        this.issuedAtMillis = issuedAtMillis;
+        this.expiresAtMillis = expiresAtMillis;
+        super.setAuthenticated(true);
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return email;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    // jti claim; null for tokens issued before token ids were introduced
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public long getIssuedAtMillis() {
+        return issuedAtMillis;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    @Override
+    public Object getDetails() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return new WebAuthenticationDetails(attributes.getRequest());
+        }
+        return null;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (!authenticated) {
+            throw new IllegalArgumentException("JwtAuthenticationToken is shared and cannot be marked unauthenticated");
+        }
+        super.setAuthenticated(true);
+    }
+}
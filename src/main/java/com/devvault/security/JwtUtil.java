@@ -1,51 +1,75 @@
 package com.devvault.security;
 
+import com.devvault.model.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
     private static final String SECRET = "super_secret_jwt_key_that_should_be_very_secure";
     private static final long EXPIRATION = 86400000; // 1 day in ms
+    // iat is in whole seconds; revocation cutoffs need the issue time to the millisecond
+    private static final String ISSUED_AT_MILLIS = "iat_ms";
 
     private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
 
+    // JwtParser is immutable and thread-safe, so one instance serves every request
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+
     public String generateToken(String email, String role) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .claim("role", role)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .claim(ISSUED_AT_MILLIS, now)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + EXPIRATION))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        return parseToken(token).getBody().getSubject();
+    public long getExpirationMillis() {
+        return EXPIRATION;
     }
 
-    public String getRoleFromToken(String token) {
-        return parseToken(token).getBody().get("role", String.class);
+    // Verifies the token once and returns its claims, or null if it is invalid or expired
+    private Claims parseClaims(String token) {
+        try {
+            return parseToken(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
-    public boolean isTokenValid(String token) {
+    // Verifies the token and builds the authentication for it, or null if the token or its role claim is invalid
+    public JwtAuthenticationToken authenticate(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
         try {
-            parseToken(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            Role role = Role.valueOf(claims.get("role", String.class));
+            Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+            // Older tokens only carry iat: the start of its second, so a cutoff in that second still revokes them
+            long issuedAt = issuedAtMillis != null ? issuedAtMillis
+                    : claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+            return new JwtAuthenticationToken(claims.getId(), claims.getSubject(), role, issuedAt,
+                    claims.getExpiration().getTime());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
         }
     }
 
     private Jws<Claims> parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+        return parser.parseClaimsJws(token);
     }
 }
@@ -0,0 +1,112 @@
+package com.devvault.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Runs in the security chain right after {@link JwtAuthenticationFilter}:
+ * 1. token bucket per user (email from the JWT) or per client IP for anonymous callers -> 429
+ * 2. adaptive concurrency limit across all requests -> 503, before the DB pool saturates
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Relative cost of a request; login pays for a BCrypt check, filter for a paged query + count
+    private static final int LOGIN_COST = 10;
+    private static final int FILTER_COST = 5;
+    private static final int WRITE_COST = 2;
+    private static final int DEFAULT_COST = 1;
+
+    private final boolean enabled;
+    private final TokenBucketTable userBuckets;
+    private final TokenBucketTable ipBuckets;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public RateLimitFilter(@Value("${devvault.ratelimit.enabled:true}") boolean enabled,
+                           @Value("${devvault.ratelimit.max-keys:100000}") int maxKeys,
+                           @Value("${devvault.ratelimit.user.capacity:100}") long userCapacity,
+                           @Value("${devvault.ratelimit.user.refill-per-second:20}") long userRefill,
+                           @Value("${devvault.ratelimit.ip.capacity:50}") long ipCapacity,
+                           @Value("${devvault.ratelimit.ip.refill-per-second:10}") long ipRefill,
+                           @Value("${devvault.ratelimit.concurrency.initial:64}") int initialLimit,
+                           @Value("${devvault.ratelimit.concurrency.min:8}") int minLimit,
+                           @Value("${devvault.ratelimit.concurrency.max:256}") int maxLimit,
+                           @Value("${devvault.ratelimit.concurrency.target-latency:250ms}") Duration targetLatency) {
+        this.enabled = enabled;
+        this.userBuckets = new TokenBucketTable(maxKeys, userCapacity, userRefill);
+        this.ipBuckets = new TokenBucketTable(maxKeys, ipCapacity, ipRefill);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, targetLatency.toNanos());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        int cost = costOf(request.getMethod(), request.getRequestURI());
+        long waitMs = (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken))
+                ? userBuckets.tryAcquire(auth.getName(), cost)
+                : ipBuckets.tryAcquire(request.getRemoteAddr(), cost);
+
+        if (waitMs > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, (waitMs + 999) / 1000, "Rate limit exceeded");
+            return;
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            log.debug("Shedding request {} (limit={})", request.getRequestURI(), concurrencyLimiter.getLimit());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is overloaded, retry shortly");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - start);
+        }
+    }
+
+    // Shared with the reactive read tier's ReactiveRateLimitFilter
+    static int costOf(String method, String uri) {
+        if (uri.equals("/auth/login")) {
+            return LOGIN_COST;
+        }
+        if (uri.equals("/issues/filter")) {
+            return FILTER_COST;
+        }
+        if (!"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+            return WRITE_COST;
+        }
+        return DEFAULT_COST;
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds,
+                               String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, retryAfterSeconds)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + status.getReasonPhrase() + "\",\"message\":\"" + message + "\"}");
+    }
+}
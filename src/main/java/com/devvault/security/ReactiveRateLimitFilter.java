@@ -0,0 +1,106 @@
+package com.devvault.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * {@link RateLimitFilter} for the reactive read tier, with the same settings and responses:
+ * token bucket per user or per client IP (429), then the adaptive concurrency limit (503).
+ * Ordered right after the security chain, so it runs inside its security context and requests
+ * the chain rejects cost no tokens. An NDJSON stream holds a concurrency slot while it runs, but
+ * its duration - paced by the client - isn't fed to the limit as a latency sample.
+ */
+@Slf4j
+@Order(-99) // WebFilterChainProxy is -100
+public class ReactiveRateLimitFilter implements WebFilter {
+
+    private final boolean enabled;
+    private final TokenBucketTable userBuckets;
+    private final TokenBucketTable ipBuckets;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public ReactiveRateLimitFilter(@Value("${devvault.ratelimit.enabled:true}") boolean enabled,
+                                   @Value("${devvault.ratelimit.max-keys:100000}") int maxKeys,
+                                   @Value("${devvault.ratelimit.user.capacity:100}") long userCapacity,
+                                   @Value("${devvault.ratelimit.user.refill-per-second:20}") long userRefill,
+                                   @Value("${devvault.ratelimit.ip.capacity:50}") long ipCapacity,
+                                   @Value("${devvault.ratelimit.ip.refill-per-second:10}") long ipRefill,
+                                   @Value("${devvault.ratelimit.concurrency.initial:64}") int initialLimit,
+                                   @Value("${devvault.ratelimit.concurrency.min:8}") int minLimit,
+                                   @Value("${devvault.ratelimit.concurrency.max:256}") int maxLimit,
+                                   @Value("${devvault.ratelimit.concurrency.target-latency:250ms}") Duration targetLatency) {
+        this.enabled = enabled;
+        this.userBuckets = new TokenBucketTable(maxKeys, userCapacity, userRefill);
+        this.ipBuckets = new TokenBucketTable(maxKeys, ipCapacity, ipRefill);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, targetLatency.toNanos());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (!enabled || path.startsWith("/actuator/health")) {
+            return chain.filter(exchange);
+        }
+        int cost = RateLimitFilter.costOf(exchange.getRequest().getMethod().name(), path);
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(auth -> auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken))
+                .map(Authentication::getName)
+                .map(user -> userBuckets.tryAcquire(user, cost))
+                .switchIfEmpty(Mono.fromSupplier(() -> ipBuckets.tryAcquire(clientAddress(exchange), cost)))
+                .flatMap(waitMs -> {
+                    if (waitMs > 0) {
+                        return reject(exchange.getResponse(), HttpStatus.TOO_MANY_REQUESTS, (waitMs + 999) / 1000,
+                                "Rate limit exceeded");
+                    }
+                    if (!concurrencyLimiter.tryAcquire()) {
+                        log.debug("Shedding request {} (limit={})", path, concurrencyLimiter.getLimit());
+                        return reject(exchange.getResponse(), HttpStatus.SERVICE_UNAVAILABLE, 1,
+                                "Server is overloaded, retry shortly");
+                    }
+                    boolean streaming = exchange.getRequest().getHeaders().getAccept().contains(MediaType.APPLICATION_NDJSON);
+                    long start = System.nanoTime();
+                    return chain.filter(exchange).doFinally(signal -> {
+                        if (streaming) {
+                            concurrencyLimiter.releaseWithoutSample();
+                        } else {
+                            concurrencyLimiter.release(System.nanoTime() - start);
+                        }
+                    });
+                });
+    }
+
+    private static String clientAddress(ServerWebExchange exchange) {
+        InetSocketAddress address = exchange.getRequest().getRemoteAddress();
+        return address != null && address.getAddress() != null ? address.getAddress().getHostAddress() : "unknown";
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, HttpStatus status, long retryAfterSeconds,
+                                     String message) {
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfterSeconds)));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = ("{\"error\":\"" + status.getReasonPhrase() + "\",\"message\":\"" + message + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
@@ -0,0 +1,27 @@
+package com.devvault.security;
+
+import com.devvault.model.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// One immutable "ROLE_x" authority list per Role, shared by every authenticated request
+public final class RoleAuthorities {
+
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    private RoleAuthorities() {}
+
+    public static List<GrantedAuthority> of(Role role) {
+        return AUTHORITIES.get(role);
+    }
+}
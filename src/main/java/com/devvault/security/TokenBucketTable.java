@@ -0,0 +1,72 @@
+package com.devvault.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets, one per key, kept in a bounded Caffeine cache. Each bucket packs the last
+ * refill time (ms, high 40 bits) and the remaining milli-tokens (low 24 bits) into one long that
+ * is updated with CAS. A bucket left alone long enough to refill completely is no different from
+ * a new one, so it expires after that idle time; the size bound only bites when more keys than
+ * that are active at once, and then the least recently used lose their state (start full).
+ */
+class TokenBucketTable {
+
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MAX_CAPACITY = TOKEN_MASK / 1000;
+
+    private final Cache<Object, AtomicLong> buckets;
+    private final long capacityMilli;
+    private final long refillMilliPerMs;
+    private final long epochNanos = System.nanoTime();
+
+    /**
+     * @param maxKeys          most buckets kept at once
+     * @param capacity         burst size in tokens
+     * @param refillPerSecond  sustained rate in tokens per second
+     */
+    TokenBucketTable(int maxKeys, long capacity, long refillPerSecond) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.capacityMilli = capacity * 1000;
+        // tokens/second == milli-tokens/ms
+        this.refillMilliPerMs = Math.max(1, refillPerSecond);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(Math.max(1, capacityMilli / refillMilliPerMs)))
+                .build();
+    }
+
+    /**
+     * Takes {@code cost} tokens from the key's bucket.
+     *
+     * @return 0 if the tokens were taken, otherwise the number of ms until they will be available
+     */
+    long tryAcquire(Object key, int cost) {
+        return tryAcquire(key, cost, (System.nanoTime() - epochNanos) / 1_000_000);
+    }
+
+    long tryAcquire(Object key, int cost, long nowMs) {
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong((nowMs << TOKEN_BITS) | capacityMilli));
+        long needed = Math.min(capacityMilli, cost * 1000L);
+        while (true) {
+            long state = bucket.get();
+            long last = state >>> TOKEN_BITS;
+            long tokens = state & TOKEN_MASK;
+            long elapsed = Math.max(0, nowMs - last);
+            long available = Math.min(capacityMilli, tokens + elapsed * refillMilliPerMs);
+            if (available < needed) {
+                return Math.max(1, (needed - available + refillMilliPerMs - 1) / refillMilliPerMs);
+            }
+            long next = (Math.max(nowMs, last) << TOKEN_BITS) | (available - needed);
+            if (bucket.compareAndSet(state, next)) {
+                return 0;
+            }
+        }
+    }
+}
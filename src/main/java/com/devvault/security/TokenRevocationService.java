@@ -0,0 +1,133 @@
+package com.devvault.security;
+
+import com.devvault.model.RevokedToken;
+import com.devvault.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deny-list for issued JWTs. Revoked token ids (jti) and revoked subjects (email + cutoff)
+ * are held in exact maps fronted by Bloom filters, so the per-request check is normally one
+ * Bloom probe per key and never touches the database. Entries age out once every token they
+ * cover has expired. The revoked_tokens table makes the list survive restarts and is polled
+ * so that revocations made on other instances are picked up.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long tokenLifetimeMillis;
+    private final int expectedEntries;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();   // jti -> expiresAt
+    private final Map<String, Long> revokedSubjects = new ConcurrentHashMap<>(); // email -> revokedAt
+    private volatile BloomFilter tokenFilter;
+    private volatile BloomFilter subjectFilter;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  JwtUtil jwtUtil,
+                                  @Value("${devvault.revocation.expected-entries:100000}") int expectedEntries) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenLifetimeMillis = jwtUtil.getExpirationMillis();
+        this.expectedEntries = expectedEntries;
+        this.tokenFilter = new BloomFilter(expectedEntries, 0.01);
+        this.subjectFilter = new BloomFilter(expectedEntries, 0.01);
+    }
+
+    @PostConstruct
+    public void load() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::remember);
+        lastSync = now;
+        log.info("Loaded {} revoked tokens and {} revoked subjects", revokedTokens.size(), revokedSubjects.size());
+    }
+
+    // Hot path, called for every authenticated request
+    public boolean isRevoked(JwtAuthenticationToken auth) {
+        String tokenId = auth.getTokenId();
+        if (tokenId != null && tokenFilter.mightContain(tokenId) && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (subjectFilter.mightContain(auth.getName())) {
+            Long cutoff = revokedSubjects.get(auth.getName());
+            // Millisecond issue time: a token issued after the cutoff, even in the same second, stays valid
+            return cutoff != null && auth.getIssuedAtMillis() < cutoff;
+        }
+        return false;
+    }
+
+    // Revokes a single token (logout)
+    public void revokeToken(JwtAuthenticationToken auth) {
+        if (auth.getTokenId() == null) {
+            revokeSubject(auth.getName());
+            return;
+        }
+        save(RevokedToken.builder()
+                .tokenKey(auth.getTokenId())
+                .kind(RevokedToken.Kind.TOKEN)
+                .revokedAt(Instant.now())
+                .expiresAt(Instant.ofEpochMilli(auth.getExpiresAtMillis()))
+                .build());
+    }
+
+    // Revokes every token issued so far to this user (deletion, role or email change)
+    public void revokeSubject(String email) {
+        Instant now = Instant.now();
+        save(RevokedToken.builder()
+                .tokenKey(email)
+                .kind(RevokedToken.Kind.SUBJECT)
+                .revokedAt(now)
+                .expiresAt(now.plusMillis(tokenLifetimeMillis))
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${devvault.revocation.sync-interval:30s}")
+    public void syncAndExpire() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByRevokedAtAfter(lastSync.minusSeconds(5)).forEach(this::remember);
+        lastSync = now;
+
+        long nowMillis = now.toEpochMilli();
+        boolean removed = revokedTokens.values().removeIf(expiresAt -> expiresAt < nowMillis);
+        removed |= revokedSubjects.values().removeIf(revokedAt -> revokedAt + tokenLifetimeMillis < nowMillis);
+        if (removed) {
+            rebuildFilters();
+            revokedTokenRepository.deleteExpired(now);
+        }
+    }
+
+    private void save(RevokedToken entry) {
+        revokedTokenRepository.save(entry);
+        remember(entry);
+    }
+
+    private synchronized void remember(RevokedToken entry) {
+        if (entry.getKind() == RevokedToken.Kind.TOKEN) {
+            revokedTokens.put(entry.getTokenKey(), entry.getExpiresAt().toEpochMilli());
+            tokenFilter.add(entry.getTokenKey());
+        } else {
+            revokedSubjects.merge(entry.getTokenKey(), entry.getRevokedAt().toEpochMilli(), Math::max);
+            subjectFilter.add(entry.getTokenKey());
+        }
+    }
+
+    // Bloom filters can't delete, so aged-out keys are dropped by rebuilding from the exact maps
+    private synchronized void rebuildFilters() {
+        BloomFilter tokens = new BloomFilter(Math.max(expectedEntries, revokedTokens.size()), 0.01);
+        revokedTokens.keySet().forEach(tokens::add);
+        BloomFilter subjects = new BloomFilter(Math.max(expectedEntries, revokedSubjects.size()), 0.01);
+        revokedSubjects.keySet().forEach(subjects::add);
+        tokenFilter = tokens;
+        subjectFilter = subjects;
+    }
+}
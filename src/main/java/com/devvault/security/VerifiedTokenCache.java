@@ -0,0 +1,40 @@
+package com.devvault.security;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Direct-mapped cache from the raw "Bearer ..." header to its verified authentication, so a
+ * client reusing its token skips signature verification and claim parsing. Fixed size;
+ * a colliding token simply replaces the previous entry.
+ */
+class VerifiedTokenCache {
+
+    private record Entry(String header, JwtAuthenticationToken authentication) {}
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    VerifiedTokenCache(int size) {
+        int capacity = Integer.highestOneBit(Math.max(2, size - 1)) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    JwtAuthenticationToken get(String header, long nowMillis) {
+        Entry entry = entries.get(header.hashCode() & mask);
+        if (entry != null && entry.authentication().getExpiresAtMillis() > nowMillis && entry.header().equals(header)) {
+            return entry.authentication();
+        }
+        return null;
+    }
+
+    void put(String header, JwtAuthenticationToken authentication) {
+        entries.set(header.hashCode() & mask, new Entry(header, authentication));
+    }
+
+    void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.devvault.service;
+
+import com.devvault.dto.BatchResponse;
+import com.devvault.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Backs the {@code ?ids=} multi-get endpoints. Hibernate's multi-load checks the persistence
+ * context and the second-level cache first and fetches only the misses, in a single IN query.
+ */
+@Service
+public class BatchLoader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${devvault.batch.max-ids:100}")
+    private int maxIds;
+
+    @Transactional(readOnly = true)
+    public <T> BatchResponse<T> loadByIds(Class<T> type, List<Long> ids) {
+        List<Long> distinctIds = distinctIds(ids);
+        List<T> loaded = entityManager.unwrap(Session.class)
+                .byMultipleIds(type)
+                .enableOrderedReturn(true)
+                .withBatchSize(maxIds)
+                .multiLoad(distinctIds);
+
+        List<T> items = new ArrayList<>(loaded.size());
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+            T entity = loaded.get(i);
+            if (entity != null) {
+                items.add(entity);
+            } else {
+                missing.add(distinctIds.get(i));
+            }
+        }
+        return new BatchResponse<>(items, missing);
+    }
+
+    // Duplicates are answered once, in the position of their first occurrence
+    public List<Long> distinctIds(List<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinctIds.isEmpty()) {
+            throw new BadRequestException("ids must not be empty");
+        }
+        if (distinctIds.size() > maxIds) {
+            throw new BadRequestException("At most " + maxIds + " ids per request, got " + distinctIds.size());
+        }
+        return distinctIds;
+    }
+}
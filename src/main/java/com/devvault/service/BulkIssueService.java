@@ -0,0 +1,274 @@
+package com.devvault.service;
+
+import com.devvault.dto.BulkIssueRequest;
+import com.devvault.dto.BulkOperationResponse;
+import com.devvault.eventlog.IssueEventLog;
+import com.devvault.eventlog.IssueEventType;
+import com.devvault.exception.BadRequestException;
+import com.devvault.exception.ResourceNotFoundException;
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.User;
+import com.devvault.outbox.OutboxEvents;
+import com.devvault.outbox.OutboxService;
+import com.devvault.repository.IssueRepository;
+import com.devvault.repository.UserRepository;
+import com.devvault.search.IssueIndexer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+import static com.devvault.util.Transactions.afterCommit;
+
+/**
+ * Admin bulk operations on issues selected by id list or filter. Work is done in chunks of
+ * devvault.bulk.chunk-size ids: each chunk selects the matching ids (keyset paging on id) and
+ * applies set-based UPDATE/DELETE statements in its own transaction, so a large operation never
+ * holds locks for long and a failure leaves earlier chunks committed. The chunk's rows are locked
+ * when selected, so rewards and counter deltas computed from them can't be overtaken by a
+ * concurrent single-issue write (which locks the row too) before the UPDATE runs.
+ */
+@Slf4j
+@Service
+public class BulkIssueService {
+
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final OutboxService outboxService;
+    private final IssueEventLog issueEventLog;
+    private final IssueIndexer issueIndexer;
+    private final IssueCountService issueCountService;
+    private final UserDashboardService userDashboardService;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${devvault.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public BulkIssueService(IssueRepository issueRepository,
+                            UserRepository userRepository,
+                            OutboxService outboxService,
+                            IssueEventLog issueEventLog,
+                            IssueIndexer issueIndexer,
+                            IssueCountService issueCountService,
+                            UserDashboardService userDashboardService,
+                            PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.outboxService = outboxService;
+        this.issueEventLog = issueEventLog;
+        this.issueIndexer = issueIndexer;
+        this.issueCountService = issueCountService;
+        this.userDashboardService = userDashboardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BulkOperationResponse assign(BulkIssueRequest request, String actor) {
+        if (request.getUserId() == null) {
+            throw new BadRequestException("userId is required");
+        }
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + request.getUserId()));
+        String detail = "bulk: assigned to user " + user.getId();
+        return run("assign", request, null, ids -> {
+            issueCountService.bulkChanging(ids, IssueStatus.CLAIMED);
+            userDashboardService.bulkChanging(ids, user.getId(), IssueStatus.CLAIMED);
+            int affected = issueRepository.assignAll(ids, user, LocalDateTime.now());
+            record(ids, IssueEventType.ASSIGNED, actor, detail);
+            return new long[]{affected, 0};
+        });
+    }
+
+    public BulkOperationResponse changeStatus(BulkIssueRequest request, String actor) {
+        IssueStatus status = request.getStatus();
+        if (status == null) {
+            throw new BadRequestException("status is required");
+        }
+        if (status != IssueStatus.CLOSED) {
+            String detail = "bulk: -> " + status;
+            return run("status", request, statusNot(status), ids -> {
+                issueCountService.bulkChanging(ids, status);
+                userDashboardService.bulkChanging(ids, null, status);
+                int affected = issueRepository.updateStatusAll(ids, status, LocalDateTime.now());
+                record(ids, IssueEventType.STATUS_CHANGED, actor, detail);
+                return new long[]{affected, 0};
+            });
+        }
+        return run("close", request, statusNot(IssueStatus.CLOSED), ids -> {
+            // Same rewards as a single close: the issue keeps its points, the assignee is credited via the outbox
+            long points = queueRewards(ids);
+            issueCountService.bulkChanging(ids, IssueStatus.CLOSED);
+            userDashboardService.bulkChanging(ids, null, IssueStatus.CLOSED);
+            for (Difficulty difficulty : Difficulty.values()) {
+                issueRepository.setRewardPointsForClose(ids, difficulty, difficulty.getReward());
+            }
+            int affected = issueRepository.updateStatusAll(ids, IssueStatus.CLOSED, LocalDateTime.now());
+            record(ids, IssueEventType.CLOSED, actor, "bulk: -> CLOSED");
+            return new long[]{affected, points};
+        });
+    }
+
+    public BulkOperationResponse delete(BulkIssueRequest request, String actor) {
+        return run("delete", request, null, ids -> {
+            issueCountService.bulkChanging(ids, null);
+            userDashboardService.bulkChanging(ids, null, null);
+            int affected = issueRepository.deleteAllByIdIn(ids);
+            issueIndexer.removed(ids);
+            record(ids, IssueEventType.DELETED, actor, "bulk: deleted");
+            return new long[]{affected, 0};
+        });
+    }
+
+    // One outbox event per assignee and chunk, carrying the sum of that user's rewards
+    private long queueRewards(List<Long> ids) {
+        long closedAt = System.currentTimeMillis();
+        Map<Long, Integer> pointsByUser = new LinkedHashMap<>();
+        for (Object[] row : issueRepository.countClosableByAssignee(ids)) {
+            int points = ((Difficulty) row[1]).getReward() * ((Number) row[2]).intValue();
+            pointsByUser.merge((Long) row[0], points, Integer::sum);
+        }
+        long total = 0;
+        for (Map.Entry<Long, Integer> entry : pointsByUser.entrySet()) {
+            outboxService.enqueue("User", entry.getKey(), OutboxEvents.ISSUE_CLOSED,
+                    Map.of("userId", entry.getKey(), "points", entry.getValue(), "closedAt", closedAt));
+            total += entry.getValue();
+        }
+        return total;
+    }
+
+    private interface ChunkAction {
+        // returns {affected rows, reward points queued}
+        long[] apply(List<Long> ids);
+    }
+
+    /**
+     * @param applicable extra condition an issue must meet for the operation to change it, so
+     *                   already-matching rows aren't touched or recorded (null = every issue)
+     */
+    private BulkOperationResponse run(String operation, BulkIssueRequest request,
+                                      Function<Root<Issue>, Predicate> applicable, ChunkAction action) {
+        Selection selection = selection(request);
+        long affected = 0;
+        long rewardPoints = 0;
+        int chunks = 0;
+        long after = Long.MIN_VALUE;
+        while (true) {
+            long from = after;
+            long[] result = transactionTemplate.execute(status -> {
+                List<Long> ids = nextChunk(selection, applicable, from);
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                long[] applied = action.apply(ids);
+                return new long[]{applied[0], applied[1], ids.get(ids.size() - 1)};
+            });
+            if (result == null) {
+                break;
+            }
+            affected += result[0];
+            rewardPoints += result[1];
+            after = result[2];
+            chunks++;
+        }
+        log.info("Bulk {} done: {} issues affected in {} chunks", operation, affected, chunks);
+        return new BulkOperationResponse(operation, affected, chunks, rewardPoints);
+    }
+
+    private record Selection(List<Long> ids, BulkIssueRequest.Filter filter) {}
+
+    private static Selection selection(BulkIssueRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        BulkIssueRequest.Filter filter = request.getFilter();
+        boolean hasFilter = filter != null
+                && (filter.getStatus() != null || filter.getDifficulty() != null || filter.getAssigneeId() != null);
+        if (hasIds == hasFilter) {
+            throw new BadRequestException("Provide either ids or a filter with at least one criterion");
+        }
+        return hasIds ? new Selection(new ArrayList<>(new TreeSet<>(request.getIds())), null) : new Selection(null, filter);
+    }
+
+    // Up to chunkSize ids greater than 'after', in id order, that match the selection and are applicable
+    private List<Long> nextChunk(Selection selection, Function<Root<Issue>, Predicate> applicable, long after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        if (selection.ids() == null) {
+            BulkIssueRequest.Filter filter = selection.filter();
+            return select(root -> {
+                List<Predicate> predicates = new ArrayList<>();
+                if (filter.getStatus() != null) {
+                    predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+                }
+                if (filter.getDifficulty() != null) {
+                    predicates.add(cb.equal(root.get("difficulty"), filter.getDifficulty()));
+                }
+                if (filter.getAssigneeId() != null) {
+                    predicates.add(cb.equal(root.get("assignedTo").get("id"), filter.getAssigneeId()));
+                }
+                return predicates;
+            }, applicable, after);
+        }
+
+        // Explicit ids are sorted: walk them slice by slice, skipping slices where nothing applies
+        List<Long> all = selection.ids();
+        int start = 0;
+        while (start < all.size() && all.get(start) <= after) {
+            start++;
+        }
+        for (; start < all.size(); start += chunkSize) {
+            List<Long> slice = all.subList(start, Math.min(all.size(), start + chunkSize));
+            List<Long> ids = select(root -> List.of(root.get("id").in(slice)), applicable, Long.MIN_VALUE);
+            if (!ids.isEmpty()) {
+                return ids;
+            }
+        }
+        return List.of();
+    }
+
+    private List<Long> select(Function<Root<Issue>, List<Predicate>> where,
+                              Function<Root<Issue>, Predicate> applicable, long after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Issue> root = query.from(Issue.class);
+        List<Predicate> predicates = new ArrayList<>(where.apply(root));
+        if (applicable != null) {
+            predicates.add(applicable.apply(root));
+        }
+        predicates.add(cb.greaterThan(root.get("id"), after));
+        query.select(root.get("id")).where(predicates.toArray(Predicate[]::new)).orderBy(cb.asc(root.get("id")));
+        // SELECT ... FOR UPDATE: a row changed by a write that commits first is re-checked against
+        // the predicates (e.g. status <> CLOSED) and dropped from the chunk
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(chunkSize)
+                .getResultList();
+    }
+
+    private Function<Root<Issue>, Predicate> statusNot(IssueStatus status) {
+        return root -> entityManager.getCriteriaBuilder().notEqual(root.get("status"), status);
+    }
+
+    // Logged once the chunk commits, so a rolled-back chunk leaves no history and the log's flush
+    // wait (await-flush) doesn't hold the row locks
+    private void record(List<Long> ids, IssueEventType type, String actor, String detail) {
+        afterCommit(() -> {
+            for (Long id : ids) {
+                issueEventLog.record(id, type, actor, detail);
+            }
+        });
+    }
+}
@@ -0,0 +1,227 @@
+package com.devvault.service;
+
+import com.devvault.dto.BatchResponse;
+import com.devvault.dto.FilterPage;
+import com.devvault.model.ArchivedIssue;
+import com.devvault.model.CountStrategy;
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.IssueView;
+import com.devvault.repository.ArchivedIssueRepository;
+import com.devvault.repository.IssueRepository;
+import com.devvault.search.IssueIndexer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Keeps the live issues table small: CLOSED issues untouched for devvault.archive.closed-for are
+ * moved to archived_issues in batches, one short transaction per batch. Reads that may hit
+ * archived issues (by id, CLOSED filter) fall through to the archive here.
+ */
+@Slf4j
+@Service
+public class IssueArchiveService {
+
+    private final IssueRepository issueRepository;
+    private final ArchivedIssueRepository archivedIssueRepository;
+    private final BatchLoader batchLoader;
+    private final ProjectionService projectionService;
+    private final IssueIndexer issueIndexer;
+    private final IssueCountService issueCountService;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${devvault.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${devvault.archive.closed-for:30d}")
+    private Duration closedFor;
+
+    @Value("${devvault.archive.batch-size:500}")
+    private int batchSize;
+
+    public IssueArchiveService(IssueRepository issueRepository,
+                               ArchivedIssueRepository archivedIssueRepository,
+                               BatchLoader batchLoader,
+                               ProjectionService projectionService,
+                               IssueIndexer issueIndexer,
+                               IssueCountService issueCountService,
+                               PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.archivedIssueRepository = archivedIssueRepository;
+        this.batchLoader = batchLoader;
+        this.projectionService = projectionService;
+        this.issueIndexer = issueIndexer;
+        this.issueCountService = issueCountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${devvault.archive.interval:1h}", initialDelayString = "${devvault.archive.interval:1h}")
+    public void archiveClosedIssues() {
+        if (enabled) {
+            int archived = archiveOlderThan(LocalDateTime.now().minus(closedFor));
+            if (archived > 0) {
+                log.info("Archived {} closed issues", archived);
+            }
+        }
+    }
+
+    /** Moves every CLOSED issue last touched before the cutoff; returns how many were moved. */
+    public int archiveOlderThan(LocalDateTime cutoff) {
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> {
+                List<Long> ids = issueRepository.lockArchivableIds(cutoff, batchSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                issueCountService.archiving(ids);
+                archivedIssueRepository.copyFromLive(ids, LocalDateTime.now());
+                issueIndexer.removed(ids);
+                return issueRepository.deleteAllByIdIn(ids);
+            });
+            total += moved;
+        } while (moved == batchSize);
+        return total;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<IssueView> findById(Long id) {
+        return issueRepository.findById(id).<IssueView>map(issue -> issue)
+                .or(() -> archivedIssueRepository.findById(id));
+    }
+
+    // Live hits first; only ids missing from the live table are looked up in the archive
+    @Transactional(readOnly = true)
+    public BatchResponse<IssueView> findByIds(List<Long> ids) {
+        BatchResponse<Issue> live = batchLoader.loadByIds(Issue.class, ids);
+        if (live.getMissing().isEmpty()) {
+            return new BatchResponse<>(new ArrayList<>(live.getItems()), live.getMissing());
+        }
+        BatchResponse<ArchivedIssue> archived = batchLoader.loadByIds(ArchivedIssue.class, live.getMissing());
+
+        Map<Long, IssueView> byId = new HashMap<>();
+        live.getItems().forEach(issue -> byId.put(issue.getId(), issue));
+        archived.getItems().forEach(issue -> byId.put(issue.getId(), issue));
+        List<IssueView> items = new ArrayList<>(byId.size());
+        for (Long id : batchLoader.distinctIds(ids)) {
+            IssueView issue = byId.get(id);
+            if (issue != null) {
+                items.add(issue);
+            }
+        }
+        return new BatchResponse<>(items, archived.getMissing());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<IssueView> findClosed(Difficulty difficulty, Pageable pageable) {
+        return findClosed(difficulty, pageable, CountStrategy.EXACT);
+    }
+
+    /**
+     * CLOSED issues across both tables: live rows (recently closed) first, then the archive by id.
+     * The archive is only queried when the page reaches past the live rows. The live count stays
+     * exact (the archive offset depends on it, and the live table is small); the strategy only
+     * applies to the archive total.
+     */
+    @Transactional(readOnly = true)
+    public FilterPage<IssueView> findClosed(Difficulty difficulty, Pageable pageable, CountStrategy countStrategy) {
+        Page<Issue> live = difficulty != null
+                ? issueRepository.findByStatusAndDifficulty(IssueStatus.CLOSED, difficulty, pageable)
+                : issueRepository.findByStatus(IssueStatus.CLOSED, pageable);
+        IssueCountService.Total archivedTotal = issueCountService.countArchived(difficulty, countStrategy);
+
+        List<IssueView> content = new ArrayList<>(live.getContent());
+        int remaining = pageable.getPageSize() - content.size();
+        if (remaining > 0 && archivedTotal.count() > 0) {
+            long archiveOffset = Math.max(0, pageable.getOffset() - live.getTotalElements());
+            content.addAll(findArchived(difficulty, archiveOffset, remaining));
+        }
+        long total = Math.max(live.getTotalElements() + archivedTotal.count(), pageable.getOffset() + content.size());
+        return new FilterPage<>(content, pageable, total, archivedTotal.approximate());
+    }
+
+    // 🔸 The same reads with a sparse fieldset (see ProjectionService)
+
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> findFieldsById(Long id, String fields) {
+        return projectionService.find(Issue.class, id, fields)
+                .or(() -> projectionService.find(ArchivedIssue.class, id, fields));
+    }
+
+    @Transactional(readOnly = true)
+    public BatchResponse<Map<String, Object>> findFieldsByIds(List<Long> ids, String fields) {
+        BatchResponse<Map<String, Object>> live = projectionService.findByIds(Issue.class, ids, fields);
+        if (live.getMissing().isEmpty()) {
+            return live;
+        }
+        BatchResponse<Map<String, Object>> archived =
+                projectionService.findByIds(ArchivedIssue.class, live.getMissing(), fields);
+
+        Map<Object, Map<String, Object>> byId = new HashMap<>();
+        live.getItems().forEach(row -> byId.put(row.get("id"), row));
+        archived.getItems().forEach(row -> byId.put(row.get("id"), row));
+        List<Map<String, Object>> items = new ArrayList<>(byId.size());
+        for (Long id : batchLoader.distinctIds(ids)) {
+            Map<String, Object> row = byId.get(id);
+            if (row != null) {
+                items.add(row);
+            }
+        }
+        return new BatchResponse<>(items, archived.getMissing());
+    }
+
+    /** CLOSED issues across both tables, paged as {@link #findClosed(Difficulty, Pageable)}. */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findClosedFields(Difficulty difficulty, Pageable pageable, String fields) {
+        Specification<Issue> closed = (root, query, cb) -> cb.and(
+                cb.equal(root.get("status"), IssueStatus.CLOSED),
+                difficulty != null ? cb.equal(root.get("difficulty"), difficulty) : cb.conjunction());
+        Page<Map<String, Object>> live = projectionService.findAll(Issue.class, closed, pageable, fields);
+        long archivedTotal = issueCountService.countArchived(difficulty, CountStrategy.EXACT).count();
+
+        List<Map<String, Object>> content = new ArrayList<>(live.getContent());
+        int remaining = pageable.getPageSize() - content.size();
+        if (remaining > 0 && archivedTotal > 0) {
+            Specification<ArchivedIssue> archived = (root, query, cb) ->
+                    difficulty != null ? cb.equal(root.get("difficulty"), difficulty) : cb.conjunction();
+            long archiveOffset = Math.max(0, pageable.getOffset() - live.getTotalElements());
+            content.addAll(projectionService.findRange(ArchivedIssue.class, archived, Sort.by("id"), archiveOffset,
+                    remaining, fields));
+        }
+        long total = Math.max(live.getTotalElements() + archivedTotal, pageable.getOffset() + content.size());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private List<ArchivedIssue> findArchived(Difficulty difficulty, long offset, int limit) {
+        TypedQuery<ArchivedIssue> query = entityManager.createQuery(
+                "SELECT a FROM ArchivedIssue a LEFT JOIN FETCH a.assignedTo"
+                        + (difficulty != null ? " WHERE a.difficulty = :difficulty" : "")
+                        + " ORDER BY a.id", ArchivedIssue.class);
+        if (difficulty != null) {
+            query.setParameter("difficulty", difficulty);
+        }
+        return query.setFirstResult((int) offset).setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,313 @@
+package com.devvault.service;
+
+import com.devvault.dto.FilterPage;
+import com.devvault.model.CountStrategy;
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.repository.ArchivedIssueRepository;
+import com.devvault.repository.IssueRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.devvault.util.Transactions.afterCommit;
+
+/**
+ * Totals for the issue filters, computed per {@link CountStrategy}.
+ * CACHED: one counter per status/difficulty bucket (and per difficulty for the archive), loaded
+ * with a GROUP BY on first use and then moved by the write paths after each commit, so a lookup
+ * costs no query. Writes that bypass the service hooks, or were served by another instance, are
+ * picked up by the periodic refresh, and a refresh can race with the deltas of writes committing
+ * meanwhile - so these totals are reported as approximate.
+ * ESTIMATED: the row estimate of the PostgreSQL planner for the filter (EXPLAIN, nothing is
+ * scanned); on other databases the cached counters are used instead.
+ */
+@Slf4j
+@Service
+public class IssueCountService {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final IssueRepository issueRepository;
+    private final ArchivedIssueRepository archivedIssueRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // null until CACHED is first asked for; replaced wholesale by refresh()
+    private volatile Counters counters;
+
+    public IssueCountService(IssueRepository issueRepository,
+                             ArchivedIssueRepository archivedIssueRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.archivedIssueRepository = archivedIssueRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public record Total(long count, boolean approximate) {}
+
+    /**
+     * The CACHED totals: live issues per status/difficulty bucket, archived ones per difficulty.
+     * Rows are as the repository GROUP BYs return them: (status, difficulty, count) for live
+     * issues, (difficulty, count) for archived ones.
+     */
+    static final class Counters {
+
+        private static final int DIFFICULTIES = Difficulty.values().length;
+
+        private final AtomicLongArray live = new AtomicLongArray(IssueStatus.values().length * DIFFICULTIES);
+        private final AtomicLongArray archived = new AtomicLongArray(DIFFICULTIES);
+
+        static Counters load(List<Object[]> liveRows, List<Object[]> archivedRows) {
+            Counters counters = new Counters();
+            for (Object[] row : liveRows) {
+                counters.live.set(bucket((IssueStatus) row[0], (Difficulty) row[1]), ((Number) row[2]).longValue());
+            }
+            for (Object[] row : archivedRows) {
+                counters.archived.set(((Difficulty) row[0]).ordinal(), ((Number) row[1]).longValue());
+            }
+            return counters;
+        }
+
+        /** Live issues matching the filter (null = any). */
+        long live(IssueStatus status, Difficulty difficulty) {
+            long sum = 0;
+            for (IssueStatus s : IssueStatus.values()) {
+                for (Difficulty d : Difficulty.values()) {
+                    if ((status == null || s == status) && (difficulty == null || d == difficulty)) {
+                        sum += live.get(bucket(s, d));
+                    }
+                }
+            }
+            return sum;
+        }
+
+        long archived(Difficulty difficulty) {
+            long sum = 0;
+            for (Difficulty d : Difficulty.values()) {
+                if (difficulty == null || d == difficulty) {
+                    sum += archived.get(d.ordinal());
+                }
+            }
+            return sum;
+        }
+
+        // One issue; a null status is "not there" (created or deleted)
+        void moved(IssueStatus fromStatus, Difficulty fromDifficulty, IssueStatus toStatus, Difficulty toDifficulty) {
+            if (fromStatus != null) {
+                live.decrementAndGet(bucket(fromStatus, fromDifficulty));
+            }
+            if (toStatus != null) {
+                live.incrementAndGet(bucket(toStatus, toDifficulty));
+            }
+        }
+
+        void bulkMoved(List<Object[]> rows, IssueStatus newStatus) {
+            for (Object[] row : rows) {
+                IssueStatus status = (IssueStatus) row[0];
+                Difficulty difficulty = (Difficulty) row[1];
+                long n = ((Number) row[2]).longValue();
+                if (status != newStatus) {
+                    live.addAndGet(bucket(status, difficulty), -n);
+                    if (newStatus != null) {
+                        live.addAndGet(bucket(newStatus, difficulty), n);
+                    }
+                }
+            }
+        }
+
+        void archiving(List<Object[]> rows) {
+            for (Object[] row : rows) {
+                Difficulty difficulty = (Difficulty) row[1];
+                long n = ((Number) row[2]).longValue();
+                live.addAndGet(bucket((IssueStatus) row[0], difficulty), -n);
+                archived.addAndGet(difficulty.ordinal(), n);
+            }
+        }
+
+        private static int bucket(IssueStatus status, Difficulty difficulty) {
+            return status.ordinal() * DIFFICULTIES + difficulty.ordinal();
+        }
+    }
+
+    /**
+     * A page of live issues with its total. A short page needs no count at all: its total is
+     * the offset plus its size. Otherwise the total is never reported below what the page shows.
+     */
+    public <T> FilterPage<T> page(List<T> content, Pageable pageable, IssueStatus status, Difficulty difficulty,
+                                  CountStrategy strategy) {
+        if (content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty())) {
+            return new FilterPage<>(content, pageable, pageable.getOffset() + content.size(), false);
+        }
+        Total total = count(status, difficulty, strategy);
+        return new FilterPage<>(content, pageable, Math.max(total.count(), pageable.getOffset() + content.size()),
+                total.approximate());
+    }
+
+    /** Live issues matching the filter (null = any). */
+    public Total count(IssueStatus status, Difficulty difficulty, CountStrategy strategy) {
+        switch (strategy) {
+            case EXACT:
+                return new Total(exactCount(status, difficulty), false);
+            case ESTIMATED:
+                Long estimate = estimate("issues", status, difficulty);
+                if (estimate != null) {
+                    return new Total(estimate, true);
+                }
+                // fall through: no planner estimate on this database
+            default:
+                return new Total(counters().live(status, difficulty), true);
+        }
+    }
+
+    /** Archived issues (all CLOSED) of the difficulty (null = any). */
+    public Total countArchived(Difficulty difficulty, CountStrategy strategy) {
+        switch (strategy) {
+            case EXACT:
+                return new Total(difficulty != null
+                        ? archivedIssueRepository.countByDifficulty(difficulty)
+                        : archivedIssueRepository.count(), false);
+            case ESTIMATED:
+                Long estimate = estimate("archived_issues", null, difficulty);
+                if (estimate != null) {
+                    return new Total(estimate, true);
+                }
+                // fall through
+            default:
+                return new Total(counters().archived(difficulty), true);
+        }
+    }
+
+    // 🔸 Write hooks; applied after the surrounding transaction commits
+
+    public void added(Issue issue) {
+        moved(null, null, issue.getStatus(), issue.getDifficulty());
+    }
+
+    public void changed(IssueStatus oldStatus, Difficulty oldDifficulty, Issue issue) {
+        if (oldStatus != issue.getStatus() || oldDifficulty != issue.getDifficulty()) {
+            moved(oldStatus, oldDifficulty, issue.getStatus(), issue.getDifficulty());
+        }
+    }
+
+    public void removed(Issue issue) {
+        moved(issue.getStatus(), issue.getDifficulty(), null, null);
+    }
+
+    /**
+     * Called inside the transaction of a bulk change, before the issues are updated: every issue
+     * of the chunk ends up in {@code newStatus} (null = deleted). Costs one GROUP BY over the ids,
+     * skipped while the counters aren't loaded.
+     */
+    public void bulkChanging(Collection<Long> ids, IssueStatus newStatus) {
+        if (counters == null) {
+            return;
+        }
+        List<Object[]> rows = issueRepository.countPerBucket(ids);
+        afterCommit(() -> counters.bulkMoved(rows, newStatus));
+    }
+
+    /** Same for a batch of CLOSED issues about to move to the archive. */
+    public void archiving(Collection<Long> ids) {
+        if (counters == null) {
+            return;
+        }
+        List<Object[]> rows = issueRepository.countPerBucket(ids);
+        afterCommit(() -> counters.archiving(rows));
+    }
+
+    // Reconciles drift from writes that went around the hooks; a no-op until CACHED is used
+    @Scheduled(fixedDelayString = "${devvault.count.refresh-interval:5m}",
+            initialDelayString = "${devvault.count.refresh-interval:5m}")
+    public void refreshIfLoaded() {
+        if (counters != null) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        counters = readOnlyTransaction.execute(status ->
+                Counters.load(issueRepository.countPerBucket(), archivedIssueRepository.countPerDifficulty()));
+    }
+
+    private Counters counters() {
+        Counters current = counters;
+        if (current == null) {
+            synchronized (this) {
+                if (counters == null) {
+                    refresh();
+                }
+                current = counters;
+            }
+        }
+        return current;
+    }
+
+    private long exactCount(IssueStatus status, Difficulty difficulty) {
+        if (status != null && difficulty != null) {
+            return issueRepository.countByStatusAndDifficulty(status, difficulty);
+        } else if (status != null) {
+            return issueRepository.countByStatus(status);
+        } else if (difficulty != null) {
+            return issueRepository.countByDifficulty(difficulty);
+        }
+        return issueRepository.count();
+    }
+
+    // Planner row estimate, or null if the database isn't PostgreSQL. The enum names are inlined
+    // (they're constants) so the estimate uses the column statistics for exactly these values.
+    private Long estimate(String table, IssueStatus status, Difficulty difficulty) {
+        StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT 1 FROM ").append(table);
+        if (status != null || difficulty != null) {
+            sql.append(" WHERE ");
+            if (status != null) {
+                sql.append("status = '").append(status.name()).append('\'');
+            }
+            if (difficulty != null) {
+                sql.append(status != null ? " AND " : "").append("difficulty = '").append(difficulty.name()).append('\'');
+            }
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return null;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(sql.toString())) {
+                resultSet.next();
+                JsonNode plan = JSON.readTree(resultSet.getString(1)).path(0).path("Plan");
+                return plan.path("Plan Rows").asLong();
+            } catch (JsonProcessingException e) {
+                log.warn("Unreadable plan for {}: {}", sql, e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    private void moved(IssueStatus fromStatus, Difficulty fromDifficulty, IssueStatus toStatus, Difficulty toDifficulty) {
+        afterCommit(() -> {
+            Counters current = counters;
+            if (current != null) {
+                current.moved(fromStatus, fromDifficulty, toStatus, toDifficulty);
+            }
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.devvault.service;
+
+import com.devvault.dto.UserResponseDTO;
+import com.devvault.model.LeaderboardWindow;
+import com.devvault.model.User;
+import com.devvault.repository.RewardBucketRepository;
+import com.devvault.repository.UserRepository;
+import com.devvault.util.DtoConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    private static final int TOP_N = 10;
+
+    private final UserRepository userRepository;
+    private final RewardBucketRepository rewardBucketRepository;
+    private final int retentionDays;
+
+    public LeaderboardService(UserRepository userRepository,
+                              RewardBucketRepository rewardBucketRepository,
+                              @Value("${devvault.leaderboard.retention-days:35}") int retentionDays) {
+        this.userRepository = userRepository;
+        this.rewardBucketRepository = rewardBucketRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    // Adds points to the user's bucket for the (UTC) day they were earned (update first, insert on first reward of the day).
+    // Runs inside the outbox dispatcher's transaction, so no statement here may fail
+    public void recordReward(Long userId, int points, LocalDate day) {
+        if (rewardBucketRepository.addPoints(day, userId, points) == 0
+                && rewardBucketRepository.insertIfAbsent(day, userId, points) == 0) {
+            // another reward created the bucket in between
+            rewardBucketRepository.addPoints(day, userId, points);
+        }
+    }
+
+    public List<UserResponseDTO> getLeaderboard(LeaderboardWindow window) {
+        if (window == LeaderboardWindow.ALL) {
+            return userRepository.findTop10ByOrderByRewardPointsDesc().stream()
+                    .map(DtoConverter::toUserResponse)
+                    .toList();
+        }
+
+        LocalDate from = LocalDate.now(ZoneOffset.UTC).minusDays(window.getDays() - 1L);
+        List<Object[]> ranked = rewardBucketRepository.findTopUsersSince(from, PageRequest.of(0, TOP_N));
+        List<Long> userIds = ranked.stream().map(row -> (Long) row[0]).toList();
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<UserResponseDTO> response = new ArrayList<>(ranked.size());
+        for (Object[] row : ranked) {
+            User user = users.get((Long) row[0]);
+            if (user != null) {
+                UserResponseDTO dto = DtoConverter.toUserResponse(user);
+                dto.setRewardPoints(((Number) row[1]).intValue()); // points earned within the window
+                response.add(dto);
+            }
+        }
+        return response;
+    }
+
+    @Scheduled(cron = "${devvault.leaderboard.prune-cron:0 15 0 * * *}", zone = "UTC")
+    public void pruneOldBuckets() {
+        int deleted = rewardBucketRepository.deleteOlderThan(LocalDate.now(ZoneOffset.UTC).minusDays(retentionDays));
+        log.info("Pruned {} reward buckets older than {} days", deleted, retentionDays);
+    }
+}
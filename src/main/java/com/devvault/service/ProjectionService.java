@@ -0,0 +1,226 @@
+package com.devvault.service;
+
+import com.devvault.dto.BatchResponse;
+import com.devvault.exception.BadRequestException;
+import com.devvault.exception.ResourceNotFoundException;
+import com.devvault.model.ArchivedIssue;
+import com.devvault.model.Issue;
+import com.devvault.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Sparse fieldsets ({@code ?fields=id,title,status}): only the requested columns are selected
+ * (a tuple query instead of loading entities), and each row comes back as an ordered map.
+ * {@code id} is always included. Dotted paths such as {@code assignedTo.username} are joined
+ * and rendered as a nested object; the nested object is null when the association is.
+ */
+@Service
+public class ProjectionService {
+
+    private static final Map<String, List<String>> ISSUE_FIELDS = fields(
+            "id", "title", "description", "difficulty", "status", "rewardPoints", "dueDate",
+            "createdAt", "updatedAt", "assignedTo:assignedTo.id,assignedTo.username");
+
+    // Selectable fields per entity, in output order, mapped to the attribute paths they read.
+    // Archived issues offer the same fields as live ones, so a read falling through to the archive
+    // returns the same shape.
+    private static final Map<Class<?>, Map<String, List<String>>> FIELDS = Map.of(
+            Issue.class, ISSUE_FIELDS,
+            ArchivedIssue.class, ISSUE_FIELDS,
+            // password is deliberately not selectable
+            User.class, fields("id", "username", "email", "role", "rewardPoints", "createdAt", "updatedAt"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final BatchLoader batchLoader;
+
+    public ProjectionService(BatchLoader batchLoader) {
+        this.batchLoader = batchLoader;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> findById(Class<?> type, Long id, String fields) {
+        return find(type, id, fields)
+                .orElseThrow(() -> new ResourceNotFoundException(type.getSimpleName() + " not found with ID: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> find(Class<?> type, Long id, String fields) {
+        List<Map<String, Object>> rows = select(type, fields, (root, query, cb) -> cb.equal(root.get("id"), id),
+                Sort.unsorted(), 0, -1);
+        return rows.stream().findFirst();
+    }
+
+    @Transactional(readOnly = true)
+    public BatchResponse<Map<String, Object>> findByIds(Class<?> type, List<Long> ids, String fields) {
+        List<Long> distinctIds = batchLoader.distinctIds(ids);
+        Map<Object, Map<String, Object>> byId = new HashMap<>();
+        for (Map<String, Object> row : select(type, fields, (root, query, cb) -> root.get("id").in(distinctIds),
+                Sort.unsorted(), 0, -1)) {
+            byId.put(row.get("id"), row);
+        }
+        List<Map<String, Object>> items = new ArrayList<>(byId.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Map<String, Object> row = byId.get(id);
+            if (row != null) {
+                items.add(row);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new BatchResponse<>(items, missing);
+    }
+
+    @Transactional(readOnly = true)
+    public <T> Page<Map<String, Object>> findAll(Class<T> type, Specification<T> where, Pageable pageable, String fields) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(select(type, fields, where, pageable.getSort(), 0, -1));
+        }
+        List<Map<String, Object>> content = select(type, fields, where, pageable.getSort(), pageable.getOffset(),
+                pageable.getPageSize());
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        return new PageImpl<>(content, pageable, count(type, where));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(Class<?> type, String fields) {
+        return select(type, fields, null, Sort.unsorted(), 0, -1);
+    }
+
+    /** At most {@code limit} rows from {@code offset} on, for offsets that don't fall on a page boundary. */
+    @Transactional(readOnly = true)
+    public <T> List<Map<String, Object>> findRange(Class<T> type, Specification<T> where, Sort sort, long offset,
+                                                   int limit, String fields) {
+        return select(type, fields, where, sort, offset, limit);
+    }
+
+    // limit < 0 = all rows
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Map<String, Object>> select(Class<?> type, String fields, Specification where, Sort sort, long offset,
+                                             int limit) {
+        List<String> selected = resolve(type, fields);
+        Map<String, List<String>> available = FIELDS.get(type);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root root = query.from(type);
+        Map<String, Join<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : selected) {
+            for (String path : available.get(field)) {
+                selections.add(path(root, joins, path).alias(path));
+            }
+        }
+        query.multiselect(selections);
+        if (where != null) {
+            query.where(where.toPredicate(root, query, cb));
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit >= 0) {
+            typedQuery.setFirstResult((int) offset);
+            typedQuery.setMaxResults(limit);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : selected) {
+                List<String> paths = available.get(field);
+                if (paths.size() == 1 && paths.get(0).equals(field)) {
+                    row.put(field, tuple.get(field));
+                } else {
+                    row.put(field, nested(tuple, paths));
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private long count(Class<?> type, Specification where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root root = query.from(type);
+        query.select(cb.count(root));
+        if (where != null) {
+            query.where(where.toPredicate(root, query, cb));
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<String> resolve(Class<?> type, String fields) {
+        Map<String, List<String>> available = FIELDS.get(type);
+        LinkedHashSet<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!available.containsKey(name)) {
+                throw new BadRequestException("Unknown field '" + name + "' for " + type.getSimpleName()
+                        + ", expected any of " + available.keySet());
+            }
+            selected.add(name);
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private static Path<?> path(Root<?> root, Map<String, Join<?, ?>> joins, String path) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            return root.get(path);
+        }
+        String association = path.substring(0, dot);
+        Join<?, ?> join = joins.computeIfAbsent(association, name -> root.join(name, JoinType.LEFT));
+        return join.get(path.substring(dot + 1));
+    }
+
+    private static Map<String, Object> nested(Tuple tuple, List<String> paths) {
+        Map<String, Object> value = new LinkedHashMap<>();
+        boolean present = false;
+        for (String path : paths) {
+            Object column = tuple.get(path);
+            present |= column != null;
+            value.put(path.substring(path.indexOf('.') + 1), column);
+        }
+        return present ? value : null;
+    }
+
+    // "name" selects the attribute of the same name; "name:a.b,a.c" selects several joined attributes
+    private static Map<String, List<String>> fields(String... definitions) {
+        Map<String, List<String>> fields = new LinkedHashMap<>();
+        for (String definition : definitions) {
+            int colon = definition.indexOf(':');
+            if (colon < 0) {
+                fields.put(definition, List.of(definition));
+            } else {
+                fields.put(definition.substring(0, colon), List.of(definition.substring(colon + 1).split(",")));
+            }
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+}
@@ -0,0 +1,42 @@
+package com.devvault.service;
+
+import com.devvault.config.SecondLevelCacheConfig;
+import com.devvault.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+import static com.devvault.util.Transactions.afterCommit;
+
+/**
+ * Evictions from the second-level cache for user writes Hibernate can't see (native reward
+ * updates) or that must not wait for a TTL. All are applied after the surrounding transaction
+ * commits, so a concurrent read can't put the old row back from before the write.
+ */
+@Service
+public class UserCacheService {
+
+    private final Cache cache;
+
+    public UserCacheService(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /** Points credited to the user: their cached row and the leaderboard are stale. */
+    public void rewarded(Long userId) {
+        afterCommit(() -> {
+            cache.evictEntityData(User.class, userId);
+            cache.evictQueryRegion(SecondLevelCacheConfig.LEADERBOARD);
+        });
+    }
+
+    /** User updated or deleted: drop the row and every email -> id mapping (one may be the old email). */
+    public void changed(Long userId) {
+        afterCommit(() -> {
+            cache.evictEntityData(User.class, userId);
+            cache.evictNaturalIdData(User.class);
+            cache.evictQueryRegion(SecondLevelCacheConfig.LEADERBOARD);
+        });
+    }
+}
@@ -0,0 +1,212 @@
+package com.devvault.service;
+
+import com.devvault.dto.UserDashboardDTO;
+import com.devvault.exception.ResourceNotFoundException;
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.User;
+import com.devvault.model.UserIssueStats;
+import com.devvault.repository.IssueRepository;
+import com.devvault.repository.UserIssueStatsRepository;
+import com.devvault.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.devvault.util.Transactions.afterCommit;
+
+/**
+ * The "my issues" dashboard. Counts come from user_issue_stats, which the issue write paths
+ * move inside their own transaction (the hooks below must be called within it); points are
+ * the user's credited reward points. A built dashboard is cached per user until something
+ * it shows changes, so a repeat visit costs no query and a rebuild a fixed three (user, counts,
+ * recent issues), however many issues the user has. Writes served by other instances don't
+ * evict here, so a cached dashboard also expires after a TTL.
+ */
+@Service
+public class UserDashboardService {
+
+    private final UserRepository userRepository;
+    private final IssueRepository issueRepository;
+    private final UserIssueStatsRepository statsRepository;
+    private final int recentIssues;
+
+    // user id -> dashboard, at most cacheSize of them; email -> user id to find it.
+    // Evictions bump the user's version, so a dashboard built from data read before a write
+    // committed is never cached after that write's eviction. All three expire after the TTL: a
+    // version is only needed while a build that started before the eviction is in flight.
+    private final Cache<Long, UserDashboardDTO> dashboards;
+    private final Cache<String, Long> userIdsByEmail;
+    private final Map<Long, Long> versions;
+    private final Object lock = new Object();
+
+    public UserDashboardService(UserRepository userRepository,
+                                IssueRepository issueRepository,
+                                UserIssueStatsRepository statsRepository,
+                                @Value("${devvault.dashboard.recent-issues:5}") int recentIssues,
+                                @Value("${devvault.dashboard.cache-size:10000}") int cacheSize,
+                                @Value("${devvault.dashboard.ttl:1m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.issueRepository = issueRepository;
+        this.statsRepository = statsRepository;
+        this.recentIssues = recentIssues;
+        this.dashboards = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(ttl).build();
+        this.userIdsByEmail = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(ttl).build();
+        this.versions = Caffeine.newBuilder().expireAfterWrite(ttl).<Long, Long>build().asMap();
+    }
+
+    public UserDashboardDTO getDashboard(String email) {
+        Long userId = userIdsByEmail.getIfPresent(email);
+        if (userId == null) {
+            userId = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email))
+                    .getId();
+            userIdsByEmail.put(email, userId);
+        }
+        UserDashboardDTO cached = dashboards.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // version first: everything read below is at least as new as the last eviction
+        long version = versions.getOrDefault(userId, 0L);
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null || !user.getEmail().equals(email)) {
+            userIdsByEmail.invalidate(email);
+            throw new ResourceNotFoundException("User not found with email: " + email);
+        }
+        UserIssueStats stats = statsRepository.findById(user.getId())
+                .orElseGet(() -> new UserIssueStats(user.getId(), 0, 0, 0));
+        List<UserDashboardDTO.RecentIssue> recent = issueRepository
+                .findRecentByAssignee(user.getId(), PageRequest.of(0, recentIssues)).stream()
+                .map(row -> new UserDashboardDTO.RecentIssue((Long) row[0], (String) row[1], (IssueStatus) row[2],
+                        (Difficulty) row[3], (LocalDateTime) row[4]))
+                .toList();
+        UserDashboardDTO dashboard = new UserDashboardDTO(user.getId(), user.getUsername(), user.getRewardPoints(),
+                stats.getOpenCount(), stats.getClaimedCount(), stats.getClosedCount(), recent);
+
+        synchronized (lock) {
+            if (versions.getOrDefault(user.getId(), 0L) == version) {
+                dashboards.put(user.getId(), dashboard);
+            }
+        }
+        return dashboard;
+    }
+
+    // 🔸 Write hooks, called inside the transaction of the issue write
+
+    public void added(Issue issue) {
+        moved(null, null, assigneeId(issue), issue.getStatus());
+    }
+
+    public void changed(Long oldAssigneeId, IssueStatus oldStatus, Issue issue) {
+        moved(oldAssigneeId, oldStatus, assigneeId(issue), issue.getStatus());
+    }
+
+    public void removed(Issue issue) {
+        moved(assigneeId(issue), issue.getStatus(), null, null);
+    }
+
+    /**
+     * Bulk change of a chunk, before the issues are updated: every issue ends up assigned to
+     * {@code newAssigneeId} (null = assignee unchanged) in {@code newStatus} (null = deleted).
+     */
+    public void bulkChanging(Collection<Long> ids, Long newAssigneeId, IssueStatus newStatus) {
+        bulkDeltas(issueRepository.countPerAssigneeAndStatus(ids), newAssigneeId, newStatus).forEach(this::apply);
+    }
+
+    /** Points or profile changed elsewhere (reward credited, user updated or deleted). */
+    public void evict(Long userId) {
+        afterCommit(() -> invalidate(userId));
+    }
+
+    public void evict(Long userId, String email) {
+        afterCommit(() -> {
+            userIdsByEmail.invalidate(email);
+            invalidate(userId);
+        });
+    }
+
+    /**
+     * Count changes per user, indexed by status ordinal, for the (assignee, status, count) rows
+     * of a bulk change; see {@link #bulkChanging}.
+     */
+    static Map<Long, int[]> bulkDeltas(List<Object[]> rows, Long newAssigneeId, IssueStatus newStatus) {
+        Map<Long, int[]> deltas = new HashMap<>();
+        for (Object[] row : rows) {
+            Long userId = (Long) row[0];
+            IssueStatus status = (IssueStatus) row[1];
+            int n = ((Number) row[2]).intValue();
+            Long targetId = newAssigneeId != null ? newAssigneeId : userId;
+            if (Objects.equals(userId, targetId) && status == newStatus) {
+                continue;
+            }
+            if (userId != null) {
+                add(deltas, userId, status, -n);
+            }
+            if (targetId != null && newStatus != null) {
+                add(deltas, targetId, newStatus, n);
+            }
+        }
+        return deltas;
+    }
+
+    /** Same for one issue moving between (assignee, status) pairs; a null user side (unassigned, or no issue) counts nothing. */
+    static Map<Long, int[]> moveDeltas(Long fromUserId, IssueStatus fromStatus, Long toUserId, IssueStatus toStatus) {
+        Map<Long, int[]> deltas = new HashMap<>();
+        if (fromUserId != null) {
+            add(deltas, fromUserId, fromStatus, -1);
+        }
+        if (toUserId != null) {
+            add(deltas, toUserId, toStatus, 1);
+        }
+        return deltas;
+    }
+
+    private void invalidate(Long userId) {
+        synchronized (lock) {
+            versions.merge(userId, 1L, Long::sum);
+            dashboards.invalidate(userId);
+        }
+    }
+
+    private void moved(Long fromUserId, IssueStatus fromStatus, Long toUserId, IssueStatus toStatus) {
+        if (Objects.equals(fromUserId, toUserId) && fromStatus == toStatus) {
+            if (toUserId != null) {
+                evict(toUserId); // counts unchanged, but the issue may be among the recent ones
+            }
+            return;
+        }
+        moveDeltas(fromUserId, fromStatus, toUserId, toStatus).forEach(this::apply);
+    }
+
+    private static void add(Map<Long, int[]> deltas, Long userId, IssueStatus status, int n) {
+        deltas.computeIfAbsent(userId, id -> new int[IssueStatus.values().length])[status.ordinal()] += n;
+    }
+
+    // One UPDATE per user; the row is created on the user's first issue
+    private void apply(Long userId, int[] delta) {
+        int open = delta[IssueStatus.OPEN.ordinal()];
+        int claimed = delta[IssueStatus.CLAIMED.ordinal()];
+        int closed = delta[IssueStatus.CLOSED.ordinal()];
+        if (open == 0 && claimed == 0 && closed == 0) {
+            return;
+        }
+        if (statsRepository.addCounts(userId, open, claimed, closed) == 0
+                && statsRepository.insertIfAbsent(userId, Math.max(open, 0), Math.max(claimed, 0), Math.max(closed, 0)) == 0) {
+            statsRepository.addCounts(userId, open, claimed, closed);
+        }
+        evict(userId);
+    }
+
+    private static Long assigneeId(Issue issue) {
+        return issue.getAssignedTo() != null ? issue.getAssignedTo().getId() : null;
+    }
+}
@@ -0,0 +1,28 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases skip this script (spring.flyway.baseline-on-migrate / baseline-version=1).
+
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username      VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    role          VARCHAR(255) NOT NULL CHECK (role IN ('ADMIN', 'DEVELOPER', 'MAINTAINER')),
+    reward_points INTEGER      NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE issues (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title         VARCHAR(255),
+    description   VARCHAR(255),
+    difficulty    VARCHAR(255) NOT NULL CHECK (difficulty IN ('EASY', 'MEDIUM', 'HARD')),
+    status        VARCHAR(255) NOT NULL CHECK (status IN ('OPEN', 'CLAIMED', 'CLOSED')),
+    user_id       BIGINT REFERENCES users (id),
+    reward_points INTEGER,
+    due_date      DATE,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
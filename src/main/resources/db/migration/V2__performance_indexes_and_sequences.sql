@@ -0,0 +1,21 @@
+-- Indexes for the hot read paths
+
+-- assignee lookups: countAssignedIssues, getTotalRewardPoints, FK checks on user delete
+CREATE INDEX IF NOT EXISTS idx_issues_user_id ON issues (user_id);
+
+-- /issues/filter on status and/or status+difficulty, ordered by id for stable paging
+CREATE INDEX IF NOT EXISTS idx_issues_status_difficulty_id ON issues (status, difficulty, id);
+
+-- findOverdueIssues
+CREATE INDEX IF NOT EXISTS idx_issues_due_date ON issues (due_date);
+
+-- /users/leaderboard (findTop10ByOrderByRewardPointsDesc)
+CREATE INDEX IF NOT EXISTS idx_users_reward_points_desc ON users (reward_points DESC);
+
+-- Sequences for pooled id generation (allocationSize = 50) so Hibernate can batch inserts.
+-- They start past the highest existing id; the old identity defaults stay but are unused.
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS issues_seq INCREMENT BY 50;
+
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50);
+SELECT setval('issues_seq', COALESCE((SELECT MAX(id) FROM issues), 0) + 50);
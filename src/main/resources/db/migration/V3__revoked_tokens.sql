@@ -0,0 +1,10 @@
+-- Persistent deny-list for JWT revocation (see TokenRevocationService)
+CREATE TABLE revoked_tokens (
+    token_key  VARCHAR(255) PRIMARY KEY,
+    kind       VARCHAR(255) NOT NULL CHECK (kind IN ('TOKEN', 'SUBJECT')),
+    revoked_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
@@ -0,0 +1,10 @@
+-- Daily pre-aggregated reward points for windowed leaderboards (see LeaderboardService)
+CREATE TABLE reward_buckets (
+    bucket_day DATE    NOT NULL,
+    user_id    BIGINT  NOT NULL,
+    points     INTEGER NOT NULL,
+    PRIMARY KEY (bucket_day, user_id)
+);
+
+-- The primary key already serves "bucket_day >= :from"; this covers pruning by user on delete
+CREATE INDEX idx_reward_buckets_user_id ON reward_buckets (user_id);
@@ -0,0 +1,20 @@
+-- Transactional outbox (see OutboxService / OutboxDispatcher)
+CREATE SEQUENCE outbox_events_seq INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id              BIGINT PRIMARY KEY,
+    aggregate_type  VARCHAR(255)  NOT NULL,
+    aggregate_id    BIGINT        NOT NULL,
+    event_type      VARCHAR(255)  NOT NULL,
+    payload         VARCHAR(1000) NOT NULL,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE,
+    attempts        INTEGER       NOT NULL DEFAULT 0,
+    processed_at    TIMESTAMP(6) WITH TIME ZONE,
+    last_error      VARCHAR(500)
+);
+
+-- Both indexes only cover pending rows, so they stay tiny however many events were processed
+CREATE INDEX idx_outbox_events_due ON outbox_events (next_attempt_at, id) WHERE processed_at IS NULL;
+CREATE INDEX idx_outbox_events_aggregate ON outbox_events (aggregate_type, aggregate_id, id) WHERE processed_at IS NULL;
+CREATE INDEX idx_outbox_events_processed_at ON outbox_events (processed_at);
@@ -0,0 +1,20 @@
+-- Cold storage for CLOSED issues (see IssueArchiveService); same columns as issues plus archived_at
+CREATE TABLE archived_issues (
+    id            BIGINT PRIMARY KEY,
+    title         VARCHAR(255),
+    description   VARCHAR(255),
+    difficulty    VARCHAR(255) NOT NULL CHECK (difficulty IN ('EASY', 'MEDIUM', 'HARD')),
+    status        VARCHAR(255) NOT NULL CHECK (status IN ('OPEN', 'CLAIMED', 'CLOSED')),
+    user_id       BIGINT REFERENCES users (id),
+    reward_points INTEGER,
+    due_date      DATE,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    archived_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_archived_issues_user_id ON archived_issues (user_id);
+CREATE INDEX idx_archived_issues_difficulty_id ON archived_issues (difficulty, id);
+
+-- Finds archivable rows without scanning the live table
+CREATE INDEX idx_issues_closed_at ON issues ((COALESCE(updated_at, created_at))) WHERE status = 'CLOSED';
@@ -0,0 +1,22 @@
+-- Per-user issue counts by status for /users/me/dashboard (see UserDashboardService)
+CREATE TABLE user_issue_stats (
+    user_id       BIGINT PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    open_count    INTEGER NOT NULL DEFAULT 0,
+    claimed_count INTEGER NOT NULL DEFAULT 0,
+    closed_count  INTEGER NOT NULL DEFAULT 0
+);
+
+INSERT INTO user_issue_stats (user_id, open_count, claimed_count, closed_count)
+SELECT user_id,
+       COUNT(*) FILTER (WHERE status = 'OPEN'),
+       COUNT(*) FILTER (WHERE status = 'CLAIMED'),
+       COUNT(*) FILTER (WHERE status = 'CLOSED')
+FROM (SELECT user_id, status FROM issues WHERE user_id IS NOT NULL
+      UNION ALL
+      SELECT user_id, status FROM archived_issues WHERE user_id IS NOT NULL) assigned
+GROUP BY user_id;
+
+-- A user's most recent issues, newest first (ids come from per-instance blocks of 50, so they
+-- don't order by creation); also serves every lookup the user_id index did
+CREATE INDEX idx_issues_user_id_created_at ON issues (user_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_issues_user_id;
@@ -0,0 +1,205 @@
+package com.devvault;
+
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.model.UserIssueStats;
+import com.devvault.repository.IssueRepository;
+import com.devvault.repository.UserIssueStatsRepository;
+import com.devvault.repository.UserRepository;
+import com.devvault.security.JwtUtil;
+import com.devvault.service.IssueCountService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.devvault.TestUsers.bearer;
+import static com.devvault.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the number of SQL round-trips per endpoint. Fixtures use several distinct assignees
+ * so an N+1 on {@code Issue.assignedTo} shows up as a budget violation.
+ * If a budget fails, fix the query shape rather than raising the number.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryCountRegressionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private IssueCountService issueCountService;
+
+    @Autowired
+    private UserIssueStatsRepository userIssueStatsRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String adminToken;
+    private List<Issue> issues;
+    private List<User> developers;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        issueRepository.deleteAll();
+        userIssueStatsRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User admin = userRepository.save(user("qc-admin", Role.ADMIN));
+        developers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            developers.add(userRepository.save(user("qc-dev" + i, Role.DEVELOPER)));
+        }
+        issues = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            issues.add(issueRepository.save(new Issue("Issue " + i, "Description " + i, Difficulty.EASY,
+                    IssueStatus.CLAIMED, developers.get(i % developers.size()))));
+        }
+        // the steady state: every user with issues has a stats row (V7 backfills them)
+        for (User user : userRepository.findAll()) {
+            userIssueStatsRepository.save(new UserIssueStats(user.getId(), 0, 0, 0));
+        }
+        adminToken = bearer(jwtUtil, admin);
+    }
+
+    @Test
+    void filterIssuesDoesNotLoadAssigneesOneByOne() throws Exception {
+        assertMaxQueries(2, get("/issues/filter").param("size", "8"));
+        assertMaxQueries(2, get("/issues/filter").param("status", "CLAIMED").param("difficulty", "EASY"));
+    }
+
+    @Test
+    void filterIssuesWithCachedCount() throws Exception {
+        issueCountService.refresh();
+        // the page only; the total comes from the in-memory counters
+        assertMaxQueries(1, get("/issues/filter").param("size", "4").param("count", "cached"));
+    }
+
+    @Test
+    void getIssueById() throws Exception {
+        assertMaxQueries(1, get("/issues/{id}", issues.get(0).getId()));
+    }
+
+    @Test
+    void sparseFieldsets() throws Exception {
+        assertMaxQueries(1, get("/issues/{id}", issues.get(0).getId()).param("fields", "title,status,assignedTo"));
+        assertMaxQueries(2, get("/issues/filter").param("size", "4").param("fields", "title"));
+        assertMaxQueries(1, get("/users").param("fields", "username,rewardPoints"));
+    }
+
+    @Test
+    void getIssuesByIds() throws Exception {
+        // one IN query for all ids, assignees joined
+        assertMaxQueries(1, get("/issues").param("ids", issues.get(3).getId() + "," + issues.get(0).getId()));
+        // ids missing from the live table cost one more IN query against the archive
+        assertMaxQueries(2, get("/issues").param("ids", issues.get(3).getId() + "," + issues.get(0).getId() + ",-1"));
+    }
+
+    @Test
+    void getUsersByIds() throws Exception {
+        assertMaxQueries(1, get("/users").param("ids", developers.get(2).getId() + "," + developers.get(0).getId()));
+    }
+
+    @Test
+    void listUsers() throws Exception {
+        assertMaxQueries(1, get("/users"));
+    }
+
+    @Test
+    void leaderboard() throws Exception {
+        assertMaxQueries(1, get("/users/leaderboard"));
+    }
+
+    @Test
+    void windowedLeaderboard() throws Exception {
+        // ranked buckets + one IN query for the users
+        assertMaxQueries(2, get("/users/leaderboard").param("window", "weekly"));
+    }
+
+    @Test
+    void createIssue() throws Exception {
+        // findByEmail + insert + creator's stats update, plus one issues_seq fetch amortized over 50 inserts
+        assertMaxQueries(4, post("/issues").contentType(MediaType.APPLICATION_JSON)
+                .content(issueJson("New issue", "CLAIMED")));
+    }
+
+    @Test
+    void closeIssueWithReward() throws Exception {
+        // issue + assignee, issue update, assignee's stats update, outbox insert,
+        // plus one outbox_events_seq fetch amortized over 50
+        assertMaxQueries(5, put("/issues/{id}", issues.get(0).getId()).contentType(MediaType.APPLICATION_JSON)
+                .content(issueJson("Closed issue", "CLOSED")));
+    }
+
+    @Test
+    void assignIssue() throws Exception {
+        // issue + assignee, new assignee, issue update, stats update for the old and the new assignee
+        assertMaxQueries(5, put("/issues/{issueId}/assign/{userId}", issues.get(0).getId(), developers.get(1).getId()));
+    }
+
+    @Test
+    void deleteIssue() throws Exception {
+        // issue + assignee, delete, assignee's stats update
+        assertMaxQueries(3, delete("/issues/{id}", issues.get(0).getId()));
+    }
+
+    @Test
+    void dashboard() throws Exception {
+        // user, stats row, recent issues; then served from the cache
+        assertMaxQueries(3, get("/users/me/dashboard"));
+        assertMaxQueries(0, get("/users/me/dashboard"));
+    }
+
+    private void assertMaxQueries(long max, RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(withAuth(request)).andExpect(status().is2xxSuccessful());
+        long executed = statistics.getPrepareStatementCount();
+        assertTrue(executed <= max, () -> "Expected at most " + max + " SQL statements but " + executed
+                + " were executed:\n  " + String.join("\n  ", statistics.getQueries()));
+    }
+
+    private RequestBuilder withAuth(RequestBuilder request) {
+        return servletContext -> {
+            var mockRequest = request.buildRequest(servletContext);
+            mockRequest.addHeader("Authorization", adminToken);
+            return mockRequest;
+        };
+    }
+
+    private static String issueJson(String title, String status) {
+        return """
+                {"title": "%s", "description": "Some description", "difficulty": "EASY", "status": "%s"}
+                """.formatted(title, status);
+    }
+}
@@ -0,0 +1,36 @@
+package com.devvault;
+
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.repository.UserRepository;
+import com.devvault.security.JwtUtil;
+
+/**
+ * Users for the Spring tests. Test contexts share one H2 database, so a test looks its users
+ * up by email and only creates the ones that aren't there yet.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    // name@devvault.test; the password is never checked (tests authenticate with a token)
+    public static User user(String name, Role role) {
+        return User.builder()
+                .username(name)
+                .email(name + "@devvault.test")
+                .password("not-a-real-hash")
+                .role(role)
+                .build();
+    }
+
+    public static User findOrCreate(UserRepository userRepository, String name, Role role) {
+        return userRepository.findByEmail(name + "@devvault.test")
+                .orElseGet(() -> userRepository.save(user(name, role)));
+    }
+
+    // Authorization header value for the user
+    public static String bearer(JwtUtil jwtUtil, User user) {
+        return "Bearer " + jwtUtil.generateToken(user.getEmail(), user.getRole().name());
+    }
+}
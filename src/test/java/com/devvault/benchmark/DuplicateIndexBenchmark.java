@@ -0,0 +1,105 @@
+package com.devvault.benchmark;
+
+import com.devvault.search.DuplicateCandidate;
+import com.devvault.search.DuplicateIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Near-duplicate lookup against 1M indexed issues with synthetic text (6-word titles, 25-word
+ * descriptions from a 5000-word vocabulary):
+ * ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="DuplicateIndexBenchmark"
+ * Queries are indexed issues with one or two words replaced. Build time, heap used and recall
+ * (share of queries whose source issue is among the top 5 results) are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DuplicateIndexBenchmark {
+
+    @Param("1000000")
+    public int issues;
+
+    private static final int QUERIES = 1000;
+
+    private DuplicateIndex index;
+    private String[][] queries;
+    private String[] unrelated;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] vocabulary = new String[5000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = word(random);
+        }
+
+        index = new DuplicateIndex(0.6);
+        queries = new String[QUERIES][];
+        long[] sources = new long[QUERIES];
+        Runtime runtime = Runtime.getRuntime();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.nanoTime();
+        for (int id = 0; id < issues; id++) {
+            String[] title = words(random, vocabulary, 6);
+            String[] description = words(random, vocabulary, 25);
+            index.index(id, id, String.join(" ", title), String.join(" ", description));
+            if (id % (issues / QUERIES) == 0 && id / (issues / QUERIES) < QUERIES) {
+                int q = id / (issues / QUERIES);
+                // Reworded copy: one word of the title and one of the description replaced
+                title[random.nextInt(title.length)] = vocabulary[random.nextInt(vocabulary.length)];
+                description[random.nextInt(description.length)] = vocabulary[random.nextInt(vocabulary.length)];
+                queries[q] = new String[]{String.join(" ", title), String.join(" ", description) + "."};
+                sources[q] = id;
+            }
+        }
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        int found = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            long source = sources[q];
+            if (index.findSimilar(queries[q][0], queries[q][1], 5).stream().anyMatch(c -> c.issueId() == source)) {
+                found++;
+            }
+        }
+        unrelated = new String[]{String.join(" ", words(random, vocabulary, 6)), String.join(" ", words(random, vocabulary, 25))};
+        System.out.printf("%nindexed %d issues in %d ms, ~%d MB heap, recall@5 %.3f%n",
+                index.size(), buildMillis, (heapAfter - heapBefore) >> 20, (double) found / QUERIES);
+    }
+
+    @Benchmark
+    public List<DuplicateCandidate> findDuplicate() {
+        String[] query = queries[next++ % QUERIES];
+        return index.findSimilar(query[0], query[1], 5);
+    }
+
+    @Benchmark
+    public List<DuplicateCandidate> findNothing() {
+        return index.findSimilar(unrelated[0], unrelated[1], 5);
+    }
+
+    private static String[] words(SplittableRandom random, String[] vocabulary, int count) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = vocabulary[random.nextInt(vocabulary.length)];
+        }
+        return words;
+    }
+
+    private static String word(SplittableRandom random) {
+        char[] chars = new char[4 + random.nextInt(6)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,116 @@
+package com.devvault.benchmark;
+
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization CPU and bytes on the wire for one page of 50 issues, full entity vs sparse
+ * fieldset (id,title,status), as JSON, CBOR and Smile, with and without gzip:
+ * ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="IssueSerializationBenchmark -prof gc"
+ * The payload sizes are printed once at setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssueSerializationBenchmark {
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ObjectMapper smile;
+    private List<Issue> fullPage;
+    private List<Map<String, Object>> sparsePage;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = Jackson2ObjectMapperBuilder.json().build();
+        cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        smile = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+        fullPage = new ArrayList<>();
+        sparsePage = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            User assignee = User.builder().id((long) i % 10).username("dev" + i % 10).email("dev" + i % 10 + "@devvault.com")
+                    .role(Role.DEVELOPER).rewardPoints(120).password("$2a$10$abcdefghijklmnopqrstuvwxyz0123456789ABCDEFGHIJKLMNOPQR")
+                    .createdAt(LocalDateTime.now()).build();
+            Issue issue = new Issue("Fix flaky integration test #" + i,
+                    "Steps to reproduce: run the suite twice in a row. ".repeat(8), Difficulty.MEDIUM,
+                    IssueStatus.CLAIMED, assignee);
+            ReflectionTestUtils.setField(issue, "id", (long) i);
+            issue.setDueDate(LocalDate.now().plusDays(7));
+            fullPage.add(issue);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", issue.getId());
+            row.put("title", issue.getTitle());
+            row.put("status", issue.getStatus());
+            sparsePage.add(row);
+        }
+
+        System.out.printf("%nbytes per page: full json=%d gzip=%d cbor=%d smile=%d | sparse json=%d gzip=%d cbor=%d%n",
+                json.writeValueAsBytes(fullPage).length, gzip(json, fullPage).length,
+                cbor.writeValueAsBytes(fullPage).length, smile.writeValueAsBytes(fullPage).length,
+                json.writeValueAsBytes(sparsePage).length, gzip(json, sparsePage).length,
+                cbor.writeValueAsBytes(sparsePage).length);
+    }
+
+    @Benchmark
+    public byte[] fullJson() throws IOException {
+        return json.writeValueAsBytes(fullPage);
+    }
+
+    @Benchmark
+    public byte[] fullJsonGzip() throws IOException {
+        return gzip(json, fullPage);
+    }
+
+    @Benchmark
+    public byte[] fullCbor() throws IOException {
+        return cbor.writeValueAsBytes(fullPage);
+    }
+
+    @Benchmark
+    public byte[] fullSmile() throws IOException {
+        return smile.writeValueAsBytes(fullPage);
+    }
+
+    @Benchmark
+    public byte[] sparseJson() throws IOException {
+        return json.writeValueAsBytes(sparsePage);
+    }
+
+    @Benchmark
+    public byte[] sparseCbor() throws IOException {
+        return cbor.writeValueAsBytes(sparsePage);
+    }
+
+    private static byte[] gzip(ObjectMapper mapper, Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(out, value);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.devvault.benchmark;
+
+import com.devvault.repository.RevokedTokenRepository;
+import com.devvault.security.JwtAuthenticationFilter;
+import com.devvault.security.JwtUtil;
+import com.devvault.security.TokenRevocationService;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request. Run with the GC profiler to see allocation per request:
+ * ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="JwtAuthenticationFilterBenchmark -prof gc"
+ * and compare gc.alloc.rate.norm (bytes/op) of cachedToken against the noToken baseline
+ * (mock request + SecurityContext bookkeeping) and against parseEveryTime (cache disabled).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtUtil jwtUtil = new JwtUtil();
+        TokenRevocationService revocations =
+                new TokenRevocationService(Mockito.mock(RevokedTokenRepository.class), jwtUtil, 100_000);
+        revocations.revokeSubject("someone-else@devvault.com");
+        cachedFilter = new JwtAuthenticationFilter(jwtUtil, revocations, 4096);
+        // cache size 0 disables the verified-token cache: full signature check + claim parsing per request
+        uncachedFilter = new JwtAuthenticationFilter(jwtUtil, revocations, 0);
+        request = new MockHttpServletRequest("GET", "/issues/1");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken("dev1@devvault.com", "DEVELOPER"));
+        anonymousRequest = new MockHttpServletRequest("GET", "/issues/1");
+        response = new MockHttpServletResponse();
+        // warm the cache
+        cachedFilter.doFilter(request, response, NO_OP_CHAIN);
+        clear();
+    }
+
+    @Benchmark
+    public Object cachedToken() throws Exception {
+        cachedFilter.doFilter(request, response, NO_OP_CHAIN);
+        Object auth = SecurityContextHolder.getContext().getAuthentication();
+        clear();
+        return auth;
+    }
+
+    // Baseline: filter bookkeeping + mock request/header overhead, no token at all
+    @Benchmark
+    public Object noToken() throws Exception {
+        cachedFilter.doFilter(anonymousRequest, response, NO_OP_CHAIN);
+        Object auth = SecurityContextHolder.getContext().getAuthentication();
+        clear();
+        return auth;
+    }
+
+    @Benchmark
+    public Object parseEveryTime() throws Exception {
+        uncachedFilter.doFilter(request, response, NO_OP_CHAIN);
+        Object auth = SecurityContextHolder.getContext().getAuthentication();
+        clear();
+        return auth;
+    }
+
+    private void clear() {
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,181 @@
+package com.devvault.benchmark;
+
+import com.devvault.DevvaultApplication;
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.reactive.ReactiveReadApplication;
+import com.devvault.repository.IssueRepository;
+import com.devvault.security.JwtUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Load test for GET /issues/filter on the servlet tier vs the reactive read tier: every invocation
+ * keeps {@code connections} HTTP/1.1 connections busy at once and waits for all responses.
+ * requests/failures are reported per second; after each trial the request-serving threads and the
+ * peak number of database connections in use are printed, which is where the tiers differ as the
+ * connection count grows (Tomcat needs a thread per in-flight request, Netty a fixed event loop).
+ *   ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="ReadTierLoadBenchmark"
+ * By default both apps share an in-process H2 database. r2dbc-h2 runs queries on the calling
+ * thread, so that setup understates the reactive tier; for real numbers use a scratch PostgreSQL
+ * database (migrated by the servlet app, seeded on first run):
+ *   -Djmh.args="ReadTierLoadBenchmark -jvmArgsAppend '-Dloadtest.jdbc-url=jdbc:postgresql://localhost:5432/loadtest
+ *     -Dloadtest.username=devvault -Dloadtest.password=secret'"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReadTierLoadBenchmark {
+
+    private static final int ISSUES = 20_000;
+    private static final String H2_OPTIONS = "MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Param({"servlet", "reactive"})
+    public String tier;
+
+    @Param({"32", "256", "1024"})
+    public int connections;
+
+    private ConfigurableApplicationContext servletApp;
+    private ConfigurableApplicationContext reactiveApp;
+    private HttpClient client;
+    private HttpRequest request;
+    private ScheduledExecutorService sampler;
+    private final AtomicInteger peakDbConnections = new AtomicInteger();
+    private int dbPoolSize;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Responses {
+        public long requests;
+        public long failures;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String jdbcUrl = System.getProperty("loadtest.jdbc-url");
+        List<String> common = List.of("--server.port=0", "--logging.level.root=WARN", "--spring.jpa.show-sql=false",
+                "--devvault.ratelimit.enabled=false", "--devvault.jfr.enabled=false",
+                "--devvault.eventlog.dir=" + System.getProperty("java.io.tmpdir") + "/devvault-loadtest-events");
+
+        List<String> servletArgs = new ArrayList<>(common);
+        List<String> reactiveArgs = new ArrayList<>(common);
+        SpringApplicationBuilder servlet = new SpringApplicationBuilder(DevvaultApplication.class);
+        if (jdbcUrl == null) {
+            servlet.profiles("test");
+            servletArgs.add("--spring.datasource.url=jdbc:h2:mem:loadtest;" + H2_OPTIONS);
+            servletArgs.add("--spring.jpa.properties.hibernate.generate_statistics=false");
+            reactiveArgs.addAll(List.of("--spring.r2dbc.url=r2dbc:h2:mem:///loadtest?options=" + H2_OPTIONS,
+                    "--spring.r2dbc.username=sa", "--spring.r2dbc.password="));
+        } else {
+            String username = System.getProperty("loadtest.username");
+            String password = System.getProperty("loadtest.password");
+            servletArgs.addAll(List.of("--spring.datasource.url=" + jdbcUrl,
+                    "--spring.datasource.username=" + username, "--spring.datasource.password=" + password));
+            reactiveArgs.addAll(List.of("--spring.r2dbc.url=" + jdbcUrl.replaceFirst("^jdbc:", "r2dbc:"),
+                    "--spring.r2dbc.username=" + username, "--spring.r2dbc.password=" + password));
+        }
+        servletApp = servlet.run(servletArgs.toArray(String[]::new));
+        seed(servletApp.getBean(IssueRepository.class));
+
+        ConfigurableApplicationContext target = servletApp;
+        IntSupplier dbConnectionsInUse;
+        if (tier.equals("reactive")) {
+            reactiveApp = new SpringApplicationBuilder(ReactiveReadApplication.class)
+                    .profiles("reactive")
+                    .run(reactiveArgs.toArray(String[]::new));
+            target = reactiveApp;
+            ConnectionPool pool = (ConnectionPool) reactiveApp.getBean(ConnectionFactory.class);
+            dbPoolSize = pool.getMetrics().orElseThrow().getMaxAllocatedSize();
+            dbConnectionsInUse = () -> pool.getMetrics().orElseThrow().acquiredSize();
+        } else {
+            HikariDataSource pool = (HikariDataSource) servletApp.getBean(DataSource.class);
+            dbPoolSize = pool.getMaximumPoolSize();
+            dbConnectionsInUse = () -> pool.getHikariPoolMXBean().getActiveConnections();
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(() -> peakDbConnections.accumulateAndGet(dbConnectionsInUse.getAsInt(), Math::max),
+                0, 5, TimeUnit.MILLISECONDS);
+
+        int port = target.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        String token = servletApp.getBean(JwtUtil.class).generateToken("loadtest@devvault.test", "DEVELOPER");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/issues/filter?status=OPEN&size=20"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sampler.shutdownNow();
+        // Tomcat request workers vs Netty event loops; the idle servlet app's threads don't count for "reactive"
+        long requestThreads = Thread.getAllStackTraces().keySet().stream()
+                .map(Thread::getName)
+                .filter(name -> tier.equals("reactive")
+                        ? name.startsWith("reactor-http-")
+                        : name.startsWith("http-nio-") && name.contains("-exec-"))
+                .count();
+        System.out.printf("%n[%s, %d connections] request threads: %d, peak DB connections in use: %d of %d%n",
+                tier, connections, requestThreads, peakDbConnections.get(), dbPoolSize);
+        if (reactiveApp != null) {
+            reactiveApp.close();
+        }
+        servletApp.close();
+    }
+
+    @Benchmark
+    public void concurrentFilters(Responses responses) {
+        List<CompletableFuture<HttpResponse<Void>>> inFlight = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : inFlight) {
+            if (response.handle((r, e) -> e == null && r.statusCode() == 200).join()) {
+                responses.requests++;
+            } else {
+                responses.failures++;
+            }
+        }
+    }
+
+    private static void seed(IssueRepository issueRepository) {
+        if (issueRepository.count() > 0) {
+            return;
+        }
+        List<Issue> batch = new ArrayList<>(1_000);
+        for (int i = 0; i < ISSUES; i++) {
+            batch.add(new Issue("Load test issue " + i, "Seeded for ReadTierLoadBenchmark",
+                    Difficulty.values()[i % 3], IssueStatus.values()[i % 3], null));
+            if (batch.size() == 1_000) {
+                issueRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.devvault.benchmark;
+
+import com.devvault.search.IssueSuggestion;
+import com.devvault.search.TitlePrefixIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete latency against 1M indexed titles (6 words from a 20000-word vocabulary).
+ * Sample mode reports percentiles, so p0.99 can be read off directly:
+ * ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="TitlePrefixIndexBenchmark"
+ * Heap used by the index is printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TitlePrefixIndexBenchmark {
+
+    @Param("1000000")
+    public int issues;
+
+    private TitlePrefixIndex index;
+    private String[] shortPrefixes;
+    private String[] twoWordPrefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        String[] vocabulary = new String[20_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            char[] chars = new char[4 + random.nextInt(6)];
+            for (int c = 0; c < chars.length; c++) {
+                chars[c] = (char) ('a' + random.nextInt(26));
+            }
+            vocabulary[i] = new String(chars);
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        index = new TitlePrefixIndex();
+        String[][] titles = new String[1024][];
+        for (int id = 0; id < issues; id++) {
+            String[] words = new String[6];
+            for (int w = 0; w < words.length; w++) {
+                words[w] = vocabulary[random.nextInt(vocabulary.length)];
+            }
+            index.index(id, id, String.join(" ", words), null);
+            titles[id % titles.length] = words;
+        }
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf("%nindexed %d titles, ~%d MB heap%n", index.size(), (heapAfter - heapBefore) >> 20);
+
+        shortPrefixes = new String[titles.length];
+        twoWordPrefixes = new String[titles.length];
+        for (int i = 0; i < titles.length; i++) {
+            shortPrefixes[i] = titles[i][0].substring(0, 2);
+            twoWordPrefixes[i] = titles[i][0] + " " + titles[i][1].substring(0, 3);
+        }
+    }
+
+    @Benchmark
+    public List<IssueSuggestion> twoLetters() {
+        return index.suggest(shortPrefixes[next++ & 1023], 10);
+    }
+
+    @Benchmark
+    public List<IssueSuggestion> wordAndPrefix() {
+        return index.suggest(twoWordPrefixes[next++ & 1023], 10);
+    }
+}
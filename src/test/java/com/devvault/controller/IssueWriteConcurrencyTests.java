@@ -0,0 +1,111 @@
+package com.devvault.controller;
+
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.outbox.OutboxEvents;
+import com.devvault.repository.IssueRepository;
+import com.devvault.repository.OutboxEventRepository;
+import com.devvault.repository.UserRepository;
+import com.devvault.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static com.devvault.TestUsers.bearer;
+import static com.devvault.TestUsers.findOrCreate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IssueWriteConcurrencyTests {
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private User admin;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        admin = findOrCreate(userRepository, "concurrency-admin", Role.ADMIN);
+        adminToken = bearer(jwtUtil, admin);
+    }
+
+    @Test
+    void concurrentClosesQueueTheRewardOnce() throws Exception {
+        Long id = issueRepository.save(new Issue("Race", "Closed twice at once", Difficulty.HARD,
+                IssueStatus.CLAIMED, admin)).getId();
+
+        // Hold the row so both PUTs are in flight before either can close it
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            issueRepository.findByIdForUpdate(id);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        locked.await();
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Integer>> closes = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                closes.add(pool.submit(() -> mockMvc.perform(put("/issues/{id}", id).header("Authorization", adminToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {"title": "Race", "description": "Closed twice at once", "difficulty": "HARD", "status": "CLOSED"}
+                                        """))
+                        .andReturn().getResponse().getStatus()));
+            }
+            Thread.sleep(300);
+            release.countDown();
+            holder.join();
+            for (Future<Integer> close : closes) {
+                assertEquals(200, close.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, outboxEventRepository.findAll().stream()
+                .filter(e -> e.getAggregateId().equals(id) && OutboxEvents.ISSUE_CLOSED.equals(e.getEventType()))
+                .count());
+    }
+}
@@ -0,0 +1,114 @@
+package com.devvault.eventlog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IssueEventLogTests {
+
+    @TempDir
+    Path directory;
+
+    private IssueEventLog eventLog;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (eventLog != null) {
+            eventLog.close();
+        }
+    }
+
+    @Test
+    void readsHistoryPerIssueAndReplaysInOrder() throws IOException {
+        eventLog = open(1);
+        eventLog.append(1, IssueEventType.CREATED, "a@devvault.com", "EASY", false);
+        eventLog.append(2, IssueEventType.CREATED, "b@devvault.com", "HARD", false);
+        eventLog.append(1, IssueEventType.CLOSED, "a@devvault.com", "CLAIMED -> CLOSED", true);
+
+        List<IssueEvent> history = eventLog.history(1);
+        assertEquals(2, history.size());
+        assertEquals(IssueEventType.CREATED, history.get(0).type());
+        assertEquals("CLAIMED -> CLOSED", history.get(1).detail());
+
+        List<IssueEvent> replay = eventLog.replay(1, 10);
+        assertEquals(List.of(1L, 2L), replay.stream().map(IssueEvent::offset).toList());
+        assertEquals(2, replay.get(0).issueId());
+    }
+
+    @Test
+    void rollsSegmentsAndRecoversAfterRestart() throws IOException {
+        eventLog = open(1);
+        String detail = "x".repeat(900);
+        for (int i = 0; i < 3_000; i++) {
+            eventLog.append(i % 10, IssueEventType.UPDATED, "dev@devvault.com", detail, false);
+        }
+        eventLog.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.count() > 1, "expected the log to roll into several segments");
+        }
+
+        eventLog = open(1);
+        assertEquals(3_000, eventLog.nextOffset());
+        assertEquals(300, eventLog.history(7).size());
+        assertEquals(2_999, eventLog.replay(2_999, 10).get(0).offset());
+        assertEquals(3_000, eventLog.append(7, IssueEventType.CLOSED, "dev@devvault.com", "done", false));
+    }
+
+    @Test
+    void truncatesLongFieldsOnACharacterBoundary() throws IOException {
+        eventLog = open(1);
+        // 3-byte characters: 1024 bytes would end in the middle of one
+        eventLog.append(1, IssueEventType.UPDATED, "dev@devvault.com", "€".repeat(400), false);
+
+        assertEquals("€".repeat(341), eventLog.history(1).get(0).detail());
+    }
+
+    @Test
+    void rejectsSegmentSizesAMappedBufferCannotHold() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IssueEventLog(directory, 2048, Duration.ofMillis(5), Duration.ofDays(1), false, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IssueEventLog(directory, 0, Duration.ofMillis(5), Duration.ofDays(1), false, 10));
+    }
+
+    @Test
+    void historyOfIssuesOutsideTheBoundedIndexIsScanned() throws IOException {
+        eventLog = open(1, 2);
+        for (int i = 0; i < 50; i++) {
+            eventLog.append(i % 5, i < 5 ? IssueEventType.CREATED : IssueEventType.UPDATED, "dev@devvault.com",
+                    "step " + i, false);
+        }
+
+        for (int issue = 0; issue < 5; issue++) {
+            List<IssueEvent> history = eventLog.history(issue);
+            assertEquals(10, history.size());
+            assertEquals("step " + issue, history.get(0).detail());
+            assertEquals("step " + (45 + issue), history.get(9).detail());
+        }
+        eventLog.append(3, IssueEventType.CLOSED, "dev@devvault.com", "done", false);
+        assertEquals(11, eventLog.history(3).size());
+        assertEquals(List.of(), eventLog.history(99));
+    }
+
+    private IssueEventLog open(int segmentSizeMb) throws IOException {
+        return open(segmentSizeMb, 100);
+    }
+
+    private IssueEventLog open(int segmentSizeMb, int indexMaxIssues) throws IOException {
+        IssueEventLog log = new IssueEventLog(directory, segmentSizeMb, Duration.ofMillis(5), Duration.ofDays(1), false,
+                indexMaxIssues);
+        log.open();
+        return log;
+    }
+}
@@ -0,0 +1,65 @@
+package com.devvault.exception;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class GlobalExceptionHandlerTests {
+
+    private final Logger log = (Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private final ListAppender<ILoggingEvent> records = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        records.start();
+        log.addAppender(records);
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.detachAppender(records);
+    }
+
+    @Test
+    void translatedExceptionsAreKeyedByTheApplicationFrame() {
+        DataIntegrityViolationException first = translated("first");
+        DataIntegrityViolationException second = translated("second");
+
+        assertNotEquals(GlobalExceptionHandler.failureSite(first), GlobalExceptionHandler.failureSite(second));
+    }
+
+    @Test
+    void logsEachSiteOncePerInterval() throws InterruptedException {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(Duration.ofMillis(200));
+        for (int i = 0; i < 3; i++) {
+            handler.handleGeneric(new MockHttpServletRequest("GET", "/issues"), translated("repeated"));
+        }
+        assertEquals(1, records.list.size());
+
+        Thread.sleep(300);
+        handler.handleGeneric(new MockHttpServletRequest("GET", "/issues"), translated("repeated"));
+        assertEquals(2, records.list.size());
+    }
+
+    // Same top frame (a shared translator), different application call sites
+    private static DataIntegrityViolationException translated(String site) {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("duplicate key");
+        ex.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("org.springframework.orm.jpa.EntityManagerFactoryUtils",
+                        "convertJpaAccessExceptionIfPossible", "EntityManagerFactoryUtils.java", 1),
+                new StackTraceElement("com.devvault.service.SomeService", site, "SomeService.java", 1)
+        });
+        return ex;
+    }
+}
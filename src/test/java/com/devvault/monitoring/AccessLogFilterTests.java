@@ -0,0 +1,94 @@
+package com.devvault.monitoring;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccessLogFilterTests {
+
+    private final Logger accessLog = (Logger) LoggerFactory.getLogger("devvault.access");
+    private final ListAppender<ILoggingEvent> records = new ListAppender<>();
+    private final AccessLogFilter filter = new AccessLogFilter(true, 10, 1, Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() {
+        records.start();
+        accessLog.addAppender(records);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLog.detachAppender(records);
+    }
+
+    @Test
+    void samplesSuccessfulReadsPerEndpoint() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            request("GET", "/issues/{id}", "/issues/" + i, 200, null);
+        }
+        request("GET", "/users/leaderboard", "/users/leaderboard", 200, null);
+
+        assertEquals(List.of(
+                "GET /issues/{id} 200 _ms sample=10",
+                "GET /issues/{id} 200 _ms sample=10",
+                "GET /issues/{id} 200 _ms sample=10",
+                "GET /users/leaderboard 200 _ms sample=10"), messages());
+    }
+
+    @Test
+    void writesAndErrorsAreAlwaysLogged() throws Exception {
+        request("PUT", "/issues/{id}", "/issues/1", 200, null);
+        request("GET", "/issues/{id}", "/issues/7", 404, "Issue not found with ID: 7");
+        request("GET", "/issues/{id}", "/issues/8", 404, "Issue not found with ID: 8");
+        request("GET", null, "/nope", 404, null);
+
+        assertEquals(List.of(
+                "PUT /issues/{id} 200 _ms sample=1",
+                "GET /issues/{id} 404 _ms sample=1 error=\"Issue not found with ID: 7\"",
+                "GET /issues/{id} 404 _ms sample=1 error=\"Issue not found with ID: 8\"",
+                "GET (unmatched) 404 _ms sample=1 uri=/nope"), messages());
+    }
+
+    @Test
+    void loadSheddingResponsesAreSampled() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            request("GET", null, "/issues/" + i, 429, null);
+        }
+
+        assertEquals(2, records.list.size());
+    }
+
+    private void request(String method, String pattern, String uri, int status, String error) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                if (pattern != null) {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+                }
+                if (error != null) {
+                    req.setAttribute(AccessLogFilter.ERROR_ATTRIBUTE, error);
+                }
+                ((MockHttpServletResponse) res).setStatus(status);
+            }
+        });
+    }
+
+    private List<String> messages() {
+        return records.list.stream().map(e -> e.getFormattedMessage().replaceFirst(" \\d+ms ", " _ms ")).toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.devvault.monitoring;
+
+import com.devvault.model.Role;
+import com.devvault.repository.UserRepository;
+import com.devvault.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static com.devvault.TestUsers.bearer;
+import static com.devvault.TestUsers.findOrCreate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "devvault.jfr.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JfrDumpEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void streamsTheRecordingWithoutLeavingTheDumpFileBehind() throws Exception {
+        String adminToken = bearer(jwtUtil, findOrCreate(userRepository, "jfr-admin", Role.ADMIN));
+        long before = dumpFiles();
+
+        byte[] recording = mockMvc.perform(get("/actuator/jfr").header("Authorization", adminToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertTrue(recording.length > 0);
+        assertEquals(before, dumpFiles());
+    }
+
+    private static long dumpFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().matches("devvault-.*\\.jfr")).count();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.devvault.outbox;
+
+import com.devvault.model.LeaderboardWindow;
+import com.devvault.model.OutboxEvent;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.repository.OutboxEventRepository;
+import com.devvault.repository.UserRepository;
+import com.devvault.service.LeaderboardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static com.devvault.TestUsers.findOrCreate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxDispatcherTests {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private User developer;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        outboxEventRepository.deleteAll();
+        developer = findOrCreate(userRepository, "outbox-dev", Role.DEVELOPER);
+    }
+
+    @Test
+    void creditsRewardOnceAfterCommit() {
+        int before = userRepository.findById(developer.getId()).orElseThrow().getRewardPoints();
+        tx.executeWithoutResult(status -> outboxService.enqueue("Issue", 1L, OutboxEvents.ISSUE_CLOSED,
+                Map.of("userId", developer.getId(), "points", 20)));
+
+        assertEquals(1, dispatcher.drain());
+        assertEquals(0, dispatcher.drain());
+
+        assertEquals(before + 20, userRepository.findById(developer.getId()).orElseThrow().getRewardPoints());
+        assertEquals(1, leaderboardService.getLeaderboard(LeaderboardWindow.DAILY).stream()
+                .filter(entry -> entry.getId().equals(developer.getId())).count());
+    }
+
+    @Test
+    void rewardsOfTheSameDayAddUpInOneBucket() {
+        int before = dailyPoints();
+        tx.executeWithoutResult(status -> {
+            outboxService.enqueue("Issue", 2L, OutboxEvents.ISSUE_CLOSED, Map.of("userId", developer.getId(), "points", 5));
+            outboxService.enqueue("Issue", 3L, OutboxEvents.ISSUE_CLOSED, Map.of("userId", developer.getId(), "points", 7));
+        });
+
+        assertEquals(2, dispatcher.drain());
+
+        assertEquals(before + 12, dailyPoints());
+    }
+
+    @Test
+    void creditsTheDayTheIssueWasClosedNotTheDispatchDay() {
+        int daily = dailyPoints();
+        int weekly = points(LeaderboardWindow.WEEKLY);
+        long twoDaysAgo = Instant.now().minus(Duration.ofDays(2)).toEpochMilli();
+        tx.executeWithoutResult(status -> outboxService.enqueue("Issue", 4L, OutboxEvents.ISSUE_CLOSED,
+                Map.of("userId", developer.getId(), "points", 9, "closedAt", twoDaysAgo)));
+
+        assertEquals(1, dispatcher.drain());
+
+        assertEquals(daily, dailyPoints());
+        assertEquals(weekly + 9, points(LeaderboardWindow.WEEKLY));
+    }
+
+    @Test
+    void claimsOnlyTheOldestPendingEventPerAggregate() {
+        tx.executeWithoutResult(status -> {
+            outboxService.enqueue("Issue", 10L, "TEST", Map.of("n", 1));
+            outboxService.enqueue("Issue", 10L, "TEST", Map.of("n", 2));
+            outboxService.enqueue("Issue", 11L, "TEST", Map.of("n", 3));
+        });
+
+        List<OutboxEvent> batch = tx.execute(status -> outboxEventRepository.lockNextBatch(Instant.now(), 10));
+
+        assertEquals(List.of("{\"n\":1}", "{\"n\":3}"), batch.stream().map(OutboxEvent::getPayload).toList());
+    }
+
+    private int dailyPoints() {
+        return points(LeaderboardWindow.DAILY);
+    }
+
+    private int points(LeaderboardWindow window) {
+        return leaderboardService.getLeaderboard(window).stream()
+                .filter(entry -> entry.getId().equals(developer.getId()))
+                .mapToInt(entry -> entry.getRewardPoints())
+                .sum();
+    }
+}
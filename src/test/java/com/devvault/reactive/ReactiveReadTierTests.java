@@ -0,0 +1,319 @@
+package com.devvault.reactive;
+
+import com.devvault.DevvaultApplication;
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.repository.ArchivedIssueRepository;
+import com.devvault.repository.IssueRepository;
+import com.devvault.repository.RewardBucketRepository;
+import com.devvault.repository.UserRepository;
+import com.devvault.security.JwtUtil;
+import com.devvault.security.TokenRevocationService;
+import com.devvault.service.IssueArchiveService;
+import com.devvault.service.LeaderboardService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.devvault.TestUsers.bearer;
+import static com.devvault.TestUsers.findOrCreate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the reactive read tier against the H2 database of the servlet test context, which owns
+ * the schema and writes the fixtures, the same split as in production.
+ */
+@SpringBootTest(classes = DevvaultApplication.class)
+@ActiveProfiles("test")
+class ReactiveReadTierTests {
+
+    private static ConfigurableApplicationContext readTier;
+    private static WebTestClient client;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ArchivedIssueRepository archivedIssueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RewardBucketRepository rewardBucketRepository;
+
+    @Autowired
+    private IssueArchiveService archiveService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final List<Issue> issues = new ArrayList<>();
+    private User developer;
+    private User maintainer;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        if (readTier == null) {
+            readTier = new SpringApplicationBuilder(ReactiveReadApplication.class)
+                    .profiles("reactive")
+                    .run("--server.port=0",
+                            "--spring.r2dbc.url=r2dbc:h2:mem:///devvault?options=MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                            "--spring.r2dbc.username=sa",
+                            "--spring.r2dbc.password=",
+                            "--devvault.revocation.sync-interval=1h",
+                            "--devvault.reactive.stream-fetch-size=2",
+                            "--devvault.reactive.stream-max-rows=4");
+            int port = readTier.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+        }
+
+        archivedIssueRepository.deleteAll();
+        issueRepository.deleteAll();
+        rewardBucketRepository.deleteAll();
+        developer = findOrCreate(userRepository, "reactive-dev", Role.DEVELOPER);
+        maintainer = findOrCreate(userRepository, "reactive-maintainer", Role.MAINTAINER);
+        issues.clear();
+        for (int i = 0; i < 5; i++) {
+            issues.add(issueRepository.save(new Issue("Issue " + i, "Description " + i,
+                    i % 2 == 0 ? Difficulty.EASY : Difficulty.HARD,
+                    i < 3 ? IssueStatus.OPEN : IssueStatus.CLOSED, i == 0 ? null : developer)));
+        }
+        token = bearer(jwtUtil, developer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        archivedIssueRepository.deleteAll();
+        issueRepository.deleteAll();
+        rewardBucketRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopReadTier() {
+        if (readTier != null) {
+            readTier.close();
+        }
+    }
+
+    @Test
+    void pingIsPublic() {
+        client.get().uri("/users/ping").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("pong");
+    }
+
+    @Test
+    void requiresAValidToken() {
+        client.get().uri("/issues/{id}", issues.get(0).getId()).exchange()
+                .expectStatus().isUnauthorized();
+        client.get().uri("/issues/{id}", issues.get(0).getId()).header("Authorization", "Bearer not-a-jwt").exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void rejectsRevokedTokens() {
+        User revoked = findOrCreate(userRepository, "reactive-revoked", Role.DEVELOPER);
+        String revokedToken = bearer(jwtUtil, revoked);
+        tokenRevocationService.revokeSubject(revoked.getEmail());
+        readTier.getBean(ReactiveRevocationList.class).reload().block();
+
+        client.get().uri("/issues/{id}", issues.get(0).getId()).header("Authorization", revokedToken).exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void getsIssueWithAssigneeButNoPassword() {
+        Issue issue = issues.get(1);
+        client.get().uri("/issues/{id}", issue.getId()).header("Authorization", token).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(issue.getId())
+                .jsonPath("$.title").isEqualTo("Issue 1")
+                .jsonPath("$.difficulty").isEqualTo("HARD")
+                .jsonPath("$.status").isEqualTo("OPEN")
+                .jsonPath("$.assignedTo.username").isEqualTo("reactive-dev")
+                .jsonPath("$.assignedTo.password").doesNotExist()
+                .jsonPath("$.archivedAt").doesNotExist();
+    }
+
+    @Test
+    void unknownIssueIsNotFound() {
+        client.get().uri("/issues/{id}", -1).header("Authorization", token).exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Not Found")
+                .jsonPath("$.message").isEqualTo("Issue not found with ID: -1");
+    }
+
+    @Test
+    void archivedIssuesAreFoundAndListedAfterLiveOnes() {
+        archiveService.archiveOlderThan(LocalDateTime.now().plusSeconds(1));
+        Issue closedLive = issueRepository.save(new Issue("Closed live", "done", Difficulty.EASY,
+                IssueStatus.CLOSED, developer));
+
+        client.get().uri("/issues/{id}", issues.get(3).getId()).header("Authorization", token).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("CLOSED")
+                .jsonPath("$.archivedAt").exists();
+
+        client.get().uri("/issues/filter?status=closed&size=10").header("Authorization", token).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(3)
+                .jsonPath("$.content[0].id").isEqualTo(closedLive.getId())
+                .jsonPath("$.content[1].id").isEqualTo(issues.get(3).getId())
+                .jsonPath("$.content[2].id").isEqualTo(issues.get(4).getId());
+    }
+
+    @Test
+    void filtersAndPages() {
+        client.get().uri("/issues/filter?status=OPEN&page=1&size=2").header("Authorization", token).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(3)
+                .jsonPath("$.totalPages").isEqualTo(2)
+                .jsonPath("$.number").isEqualTo(1)
+                .jsonPath("$.last").isEqualTo(true)
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].id").isEqualTo(issues.get(2).getId());
+
+        client.get().uri("/issues/filter?status=OPEN&difficulty=HARD").header("Authorization", token).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(1)
+                .jsonPath("$.content[0].id").isEqualTo(issues.get(1).getId());
+    }
+
+    @Test
+    void rejectsInvalidFilters() {
+        client.get().uri("/issues/filter?status=DONE").header("Authorization", token).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Bad Request");
+        client.get().uri("/issues/filter?size=0").header("Authorization", token).exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void streamsTheWholeFilterAsNdjson() {
+        List<ReactiveIssue> streamed = client.get().uri("/issues/filter?difficulty=EASY")
+                .header("Authorization", token)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ReactiveIssue.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(List.of(issues.get(0).getId(), issues.get(2).getId(), issues.get(4).getId()),
+                streamed.stream().map(ReactiveIssue::id).toList());
+    }
+
+    @Test
+    void streamsStopAtTheMaxRows() {
+        List<ReactiveIssue> streamed = client.get().uri("/issues/filter")
+                .header("Authorization", token)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ReactiveIssue.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(4, streamed.size());
+    }
+
+    @Test
+    void pageParametersBeyondIntAreBadRequests() {
+        client.get().uri("/issues/filter?size=4294967297").header("Authorization", token).exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void rateLimitsEachUser() {
+        User limited = findOrCreate(userRepository, "reactive-limited", Role.DEVELOPER);
+        String limitedToken = bearer(jwtUtil, limited);
+
+        // filter costs 5 of the 100-token burst; the refill (20/s) can't keep up with back-to-back requests
+        int status = 200;
+        for (int i = 0; i < 50 && status == 200; i++) {
+            status = client.get().uri("/issues/filter").header("Authorization", limitedToken).exchange()
+                    .returnResult(String.class).getStatus().value();
+        }
+
+        assertEquals(429, status);
+        client.get().uri("/issues/filter").header("Authorization", token).exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void rateLimitsEachForwardedClient() {
+        // anonymous pings cost 1 of the 50-token burst, refilled at 10/s
+        int status = 200;
+        for (int i = 0; i < 500 && status == 200; i++) {
+            status = client.get().uri("/users/ping").header("X-Forwarded-For", "203.0.113.7").exchange()
+                    .returnResult(String.class).getStatus().value();
+        }
+
+        assertEquals(429, status);
+        client.get().uri("/users/ping").header("X-Forwarded-For", "198.51.100.23").exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void leaderboardRanksLifetimeAndWindowedPoints() {
+        developer.setRewardPoints(500);
+        maintainer.setRewardPoints(100);
+        userRepository.saveAll(List.of(developer, maintainer));
+        leaderboardService.recordReward(developer.getId(), 10, LocalDate.now(ZoneOffset.UTC));
+        leaderboardService.recordReward(maintainer.getId(), 40, LocalDate.now(ZoneOffset.UTC));
+
+        client.get().uri("/users/leaderboard").header("Authorization", token).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].username").isEqualTo("reactive-dev")
+                .jsonPath("$[0].rewardPoints").isEqualTo(500);
+
+        client.get().uri("/users/leaderboard?window=weekly").header("Authorization", token).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].username").isEqualTo("reactive-maintainer")
+                .jsonPath("$[0].rewardPoints").isEqualTo(40)
+                .jsonPath("$[1].rewardPoints").isEqualTo(10);
+    }
+
+    @Test
+    void writesAreNotServed() {
+        client.post().uri("/issues").header("Authorization", token).exchange()
+                .expectStatus().isForbidden();
+    }
+}
@@ -0,0 +1,70 @@
+package com.devvault.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateIndexTests {
+
+    private final DuplicateIndex index = new DuplicateIndex(0.6);
+
+    @Test
+    void findsReworded() {
+        index.index(1, 0, "Login button does nothing on Safari",
+                "Clicking the login button on Safari 17 does nothing, no request is sent.");
+        index.index(2, 0, "Export to CSV drops the header row", "The exported file starts with data rows.");
+
+        List<DuplicateCandidate> similar = index.findSimilar("Login button does nothing on safari!",
+                "Clicking the login button on Safari 17 does nothing; no request is sent", 5);
+
+        assertEquals(1, similar.size());
+        assertEquals(1, similar.get(0).issueId());
+        assertTrue(similar.get(0).similarity() > 0.8, () -> "similarity " + similar.get(0).similarity());
+    }
+
+    @Test
+    void ignoresUnrelatedText() {
+        index.index(1, 0, "Login button does nothing on Safari", "Clicking it does nothing.");
+
+        assertTrue(index.findSimilar("Dark mode colors are wrong", "Contrast is too low in the sidebar.", 5).isEmpty());
+    }
+
+    @Test
+    void updateAndRemoveKeepTheIndexCurrent() {
+        index.index(1, 0, "Crash when uploading a large avatar", "The app crashes for images over 10 MB.");
+        index.index(2, 0, "Crash when uploading a large avatar", "The app crashes for images over 10 MB!");
+        assertEquals(List.of(2L), index.findSimilar(1, 5).stream().map(DuplicateCandidate::issueId).toList());
+
+        index.index(2, 0, "Typo on the pricing page", "It says 'anual' instead of 'annual'.");
+        assertTrue(index.findSimilar(1, 5).isEmpty());
+
+        index.remove(1);
+        assertEquals(1, index.size());
+        assertTrue(index.findSimilar("Crash when uploading a large avatar", "The app crashes for images over 10 MB.", 5).isEmpty());
+    }
+
+    @Test
+    void groupsDuplicatesIntoClustersAcrossGrowth() {
+        for (int i = 0; i < 3000; i++) {
+            index.index(i, 0, "Unrelated issue number " + i, "Body text " + i * 7919 + " with details " + i);
+        }
+        index.index(10_001, 0, "Search results are not paginated", "All 5000 results load on one page.");
+        index.index(10_002, 0, "Search results are not paginated", "All 5000 results load on one page!!");
+        index.index(10_003, 0, "search results are not paginated.", "All 5000 results load on one page");
+
+        List<List<Long>> clusters = index.clusters(10);
+
+        assertTrue(clusters.contains(List.of(10_001L, 10_002L, 10_003L)), clusters::toString);
+    }
+
+    @Test
+    void nonPositiveClusterLimitsReturnNothing() {
+        index.index(1, 0, "Search results are not paginated", "All 5000 results load on one page.");
+        index.index(2, 0, "Search results are not paginated", "All 5000 results load on one page!!");
+
+        assertTrue(index.clusters(-1).isEmpty());
+        assertEquals(1, index.clusters(1).size());
+    }
+}
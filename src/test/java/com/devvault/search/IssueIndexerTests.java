@@ -0,0 +1,44 @@
+package com.devvault.search;
+
+import com.devvault.repository.IssueRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IssueIndexerTests {
+
+    private final TitlePrefixIndex titles = new TitlePrefixIndex();
+    private final IssueRepository issueRepository = mock(IssueRepository.class);
+    private final IssueIndexer indexer =
+            new IssueIndexer(List.of(titles), issueRepository, mock(PlatformTransactionManager.class), false);
+
+    @Test
+    void rebuildKeepsServingAndReplaysChangesCommittedDuringTheScan() {
+        titles.index(99, 0, "Login from before the restart", null);
+        when(issueRepository.streamIndexedText()).thenAnswer(invocation -> Stream.of(
+                row(1, "Login button broken"),
+                row(2, "Login page slow")
+        ).peek(row -> {
+            if ((Long) row[0] == 2) {
+                // the live index still answers mid-scan, and issue 1 is deleted after it was streamed
+                assertEquals(1, titles.suggest("login", 10).size());
+                indexer.removed(List.of(1L));
+            }
+        }));
+
+        indexer.rebuild();
+
+        assertEquals(List.of(new IssueSuggestion(2, "Login page slow")), titles.suggest("login", 10));
+    }
+
+    private static Object[] row(long id, String title) {
+        return new Object[]{id, LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(id), title, null};
+    }
+}
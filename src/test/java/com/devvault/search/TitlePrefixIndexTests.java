@@ -0,0 +1,72 @@
+package com.devvault.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TitlePrefixIndexTests {
+
+    private final TitlePrefixIndex index = new TitlePrefixIndex();
+
+    @Test
+    void matchesWordPrefixesNewestFirst() {
+        index.index(1, 100, "Login button broken on Safari", null);
+        index.index(2, 200, "Logout does not clear the session", null);
+        index.index(3, 300, "Slow login for SSO users", null);
+
+        assertEquals(List.of(3L, 2L, 1L), ids(index.suggest("log", 10)));
+        assertEquals(List.of(3L, 1L), ids(index.suggest("LOGIN", 10)));
+        assertEquals(List.of(3L), ids(index.suggest("log", 1)));
+    }
+
+    @Test
+    void requiresEveryCompleteToken() {
+        index.index(1, 100, "Login button broken on Safari", null);
+        index.index(2, 200, "Login page button misaligned", null);
+        index.index(3, 300, "Login fails on Safari", null);
+
+        assertEquals(List.of(2L, 1L), ids(index.suggest("login but", 10)));
+        assertEquals(List.of(3L, 1L), ids(index.suggest("safari login ", 10)));
+        assertEquals(List.of(), ids(index.suggest("firefox log", 10)));
+    }
+
+    @Test
+    void updatesAndRemovalsApplyImmediately() {
+        index.index(1, 100, "Crash on upload", null);
+        index.index(1, 100, "Timeout on upload", null);
+        assertEquals(List.of(), ids(index.suggest("cra", 10)));
+        assertEquals(List.of(new IssueSuggestion(1, "Timeout on upload")), index.suggest("time", 10));
+
+        index.remove(1);
+        assertEquals(0, index.size());
+        assertEquals(List.of(), ids(index.suggest("up", 10)));
+    }
+
+    @Test
+    void ranksByCreationTimeNotId() {
+        // pooled ids: the newest issue may come from an older node's block
+        index.index(151, 100, "Login button broken", null);
+        index.index(2, 300, "Login page blank", null);
+        index.index(51, 200, "Login loops forever", null);
+
+        assertEquals(List.of(2L, 51L, 151L), ids(index.suggest("login", 10)));
+        assertEquals(List.of(2L, 51L, 151L), ids(index.suggest("lo", 10)));
+    }
+
+    @Test
+    void shortPrefixesKeepTheExpansionsWithTheNewestIssues() {
+        // more "a..." tokens than are expanded; the newest one sorts last in the dictionary
+        for (int i = 0; i < 600; i++) {
+            index.index(i, i, "a" + String.format("%04d", i), null);
+        }
+        index.index(1000, 5000, "azzz", null);
+
+        assertEquals(List.of(1000L, 599L), ids(index.suggest("a", 2)));
+    }
+
+    private static List<Long> ids(List<IssueSuggestion> suggestions) {
+        return suggestions.stream().map(IssueSuggestion::id).toList();
+    }
+}
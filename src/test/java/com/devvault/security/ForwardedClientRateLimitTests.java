@@ -0,0 +1,43 @@
+package com.devvault.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+// A real server: the forwarded client address is resolved by Tomcat (RemoteIpValve), not by a servlet filter
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ForwardedClientRateLimitTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void eachForwardedClientHasItsOwnBucket() {
+        WebTestClient client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+
+        // login costs 10 of the 50-token burst
+        int status = 0;
+        for (int i = 0; i < 20 && status != 429; i++) {
+            status = login(client, "203.0.113.7");
+        }
+
+        assertEquals(429, status);
+        assertNotEquals(429, login(client, "198.51.100.23"));
+    }
+
+    private static int login(WebTestClient client, String forwardedFor) {
+        return client.post().uri("/auth/login")
+                .header("X-Forwarded-For", forwardedFor)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\": \"nobody@devvault.test\", \"password\": \"wrong\"}")
+                .exchange()
+                .returnResult(String.class).getStatus().value();
+    }
+}
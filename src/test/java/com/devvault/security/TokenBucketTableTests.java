@@ -0,0 +1,44 @@
+package com.devvault.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTableTests {
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        TokenBucketTable buckets = new TokenBucketTable(1024, 10, 1);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, buckets.tryAcquire("alice", 1, 1_000));
+        }
+        assertTrue(buckets.tryAcquire("alice", 1, 1_000) > 0);
+    }
+
+    @Test
+    void refillsOverTime() {
+        TokenBucketTable buckets = new TokenBucketTable(1024, 10, 5);
+        assertEquals(0, buckets.tryAcquire("bob", 10, 1_000));
+        long wait = buckets.tryAcquire("bob", 5, 1_000);
+        assertEquals(1_000, wait);
+        assertEquals(0, buckets.tryAcquire("bob", 5, 1_000 + wait));
+    }
+
+    @Test
+    void weightsConsumeMoreTokens() {
+        TokenBucketTable buckets = new TokenBucketTable(1024, 20, 1);
+        assertEquals(0, buckets.tryAcquire("carol", 10, 1_000));
+        assertEquals(0, buckets.tryAcquire("carol", 10, 1_000));
+        assertTrue(buckets.tryAcquire("carol", 1, 1_000) > 0);
+    }
+
+    @Test
+    void everyKeyHasItsOwnBucket() {
+        TokenBucketTable buckets = new TokenBucketTable(100_000, 5, 1);
+        for (int i = 0; i < 70_000; i++) {
+            assertEquals(0, buckets.tryAcquire("client-" + i, 5, 1_000), "client-" + i);
+        }
+        assertTrue(buckets.tryAcquire("client-0", 1, 1_000) > 0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.devvault.security;
+
+import com.devvault.model.Role;
+import com.devvault.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationServiceTests {
+
+    private final TokenRevocationService service =
+            new TokenRevocationService(mock(RevokedTokenRepository.class), new JwtUtil(), 1_000);
+
+    @Test
+    void revokesSingleTokenById() {
+        long now = System.currentTimeMillis();
+        JwtAuthenticationToken revoked = token("jti-1", "dev@devvault.com", now);
+        JwtAuthenticationToken other = token("jti-2", "dev@devvault.com", now);
+
+        service.revokeToken(revoked);
+
+        assertTrue(service.isRevoked(revoked));
+        assertFalse(service.isRevoked(other));
+    }
+
+    @Test
+    void revokesTokensIssuedBeforeSubjectCutoff() {
+        long now = System.currentTimeMillis();
+        JwtAuthenticationToken old = token("jti-3", "admin@devvault.com", now - 60_000);
+
+        service.revokeSubject("admin@devvault.com");
+
+        assertTrue(service.isRevoked(old));
+        assertFalse(service.isRevoked(token("jti-4", "admin@devvault.com", now + 2_000)));
+        assertFalse(service.isRevoked(token("jti-5", "other@devvault.com", now - 60_000)));
+    }
+
+    @Test
+    void tokensIssuedRightAfterTheCutoffStayValid() {
+        long before = System.currentTimeMillis();
+        service.revokeSubject("dev@devvault.com");
+        long after = System.currentTimeMillis();
+
+        assertTrue(service.isRevoked(token("jti-6", "dev@devvault.com", before - 1)));
+        assertFalse(service.isRevoked(token("jti-7", "dev@devvault.com", after + 1)));
+    }
+
+    @Test
+    void issuedTokensCarryMillisecondIssueTimes() {
+        JwtUtil jwtUtil = new JwtUtil();
+        long before = System.currentTimeMillis();
+        JwtAuthenticationToken auth = jwtUtil.authenticate(jwtUtil.generateToken("dev@devvault.com", "DEVELOPER"));
+        long after = System.currentTimeMillis();
+
+        assertTrue(auth.getIssuedAtMillis() >= before && auth.getIssuedAtMillis() <= after,
+                () -> auth.getIssuedAtMillis() + " not in [" + before + ", " + after + "]");
+    }
+
+    private static JwtAuthenticationToken token(String id, String email, long issuedAt) {
+        return new JwtAuthenticationToken(id, email, Role.DEVELOPER, issuedAt, issuedAt + 86_400_000);
+    }
+}
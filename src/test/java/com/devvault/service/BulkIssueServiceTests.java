@@ -0,0 +1,135 @@
+package com.devvault.service;
+
+import com.devvault.dto.BulkIssueRequest;
+import com.devvault.dto.BulkOperationResponse;
+import com.devvault.exception.BadRequestException;
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.outbox.OutboxDispatcher;
+import com.devvault.repository.IssueRepository;
+import com.devvault.repository.OutboxEventRepository;
+import com.devvault.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.devvault.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "devvault.bulk.chunk-size=2")
+@ActiveProfiles("test")
+class BulkIssueServiceTests {
+
+    @Autowired
+    private BulkIssueService bulkIssueService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private User first;
+    private User second;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        issueRepository.deleteAll();
+        userRepository.deleteAll();
+        first = userRepository.save(user("bulk-dev1", Role.DEVELOPER));
+        second = userRepository.save(user("bulk-dev2", Role.DEVELOPER));
+    }
+
+    @Test
+    void bulkCloseCreditsEachAssigneeOnce() {
+        Issue easy = save(Difficulty.EASY, IssueStatus.CLAIMED, first);
+        save(Difficulty.HARD, IssueStatus.CLAIMED, first);
+        save(Difficulty.MEDIUM, IssueStatus.OPEN, second);
+        save(Difficulty.HARD, IssueStatus.CLOSED, second);
+        save(Difficulty.HARD, IssueStatus.OPEN, null);
+
+        BulkIssueRequest request = new BulkIssueRequest();
+        request.setIds(issueRepository.findAll().stream().map(Issue::getId).toList());
+        request.setStatus(IssueStatus.CLOSED);
+
+        BulkOperationResponse response = bulkIssueService.changeStatus(request, "admin@devvault.com");
+        outboxDispatcher.drain();
+
+        assertEquals(4, response.getAffected());
+        assertEquals(60, response.getRewardPoints());
+        assertEquals(40, userRepository.findById(first.getId()).orElseThrow().getRewardPoints());
+        assertEquals(20, userRepository.findById(second.getId()).orElseThrow().getRewardPoints());
+        assertEquals(10, issueRepository.findById(easy.getId()).orElseThrow().getRewardPoints());
+        assertTrue(issueRepository.findAll().stream().allMatch(issue -> issue.getStatus() == IssueStatus.CLOSED));
+
+        // Closing again changes nothing and credits nothing
+        assertEquals(0, bulkIssueService.changeStatus(request, "admin@devvault.com").getAffected());
+    }
+
+    @Test
+    void bulkAssignByFilterWorksInChunks() {
+        for (int i = 0; i < 5; i++) {
+            save(Difficulty.EASY, IssueStatus.OPEN, first);
+        }
+        save(Difficulty.HARD, IssueStatus.OPEN, first);
+
+        BulkIssueRequest request = new BulkIssueRequest();
+        request.setFilter(filter(first.getId(), Difficulty.EASY));
+        request.setUserId(second.getId());
+
+        BulkOperationResponse response = bulkIssueService.assign(request, "admin@devvault.com");
+
+        assertEquals(5, response.getAffected());
+        assertEquals(3, response.getChunks());
+        assertEquals(5, issueRepository.countAssignedIssues(second.getId()));
+        assertEquals(1, issueRepository.countAssignedIssues(first.getId()));
+    }
+
+    @Test
+    void bulkDeleteByIdsSkipsUnknownIds() {
+        Issue a = save(Difficulty.EASY, IssueStatus.OPEN, first);
+        Issue b = save(Difficulty.EASY, IssueStatus.OPEN, first);
+        Issue kept = save(Difficulty.EASY, IssueStatus.OPEN, first);
+
+        BulkIssueRequest request = new BulkIssueRequest();
+        request.setIds(List.of(-3L, -2L, -1L, a.getId(), b.getId()));
+
+        assertEquals(2, bulkIssueService.delete(request, "admin@devvault.com").getAffected());
+        assertEquals(List.of(kept.getId()), issueRepository.findAll().stream().map(Issue::getId).toList());
+    }
+
+    @Test
+    void requiresEitherIdsOrAFilter() {
+        BulkIssueRequest request = new BulkIssueRequest();
+        assertThrows(BadRequestException.class, () -> bulkIssueService.delete(request, "admin@devvault.com"));
+
+        request.setIds(List.of(1L));
+        request.setFilter(filter(first.getId(), null));
+        assertThrows(BadRequestException.class, () -> bulkIssueService.delete(request, "admin@devvault.com"));
+    }
+
+    private Issue save(Difficulty difficulty, IssueStatus status, User assignee) {
+        return issueRepository.save(new Issue("Bulk", "bulk", difficulty, status, assignee));
+    }
+
+    private static BulkIssueRequest.Filter filter(Long assigneeId, Difficulty difficulty) {
+        BulkIssueRequest.Filter filter = new BulkIssueRequest.Filter();
+        filter.setAssigneeId(assigneeId);
+        filter.setDifficulty(difficulty);
+        return filter;
+    }
+}
@@ -0,0 +1,122 @@
+package com.devvault.service;
+
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.IssueView;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.repository.ArchivedIssueRepository;
+import com.devvault.repository.IssueRepository;
+import com.devvault.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.devvault.TestUsers.findOrCreate;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IssueArchiveServiceTests {
+
+    @Autowired
+    private IssueArchiveService archiveService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ArchivedIssueRepository archivedIssueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Issue> closed = new ArrayList<>();
+    private Issue open;
+
+    @BeforeEach
+    void setUp() {
+        archivedIssueRepository.deleteAll();
+        issueRepository.deleteAll();
+        User developer = findOrCreate(userRepository, "archive-dev", Role.DEVELOPER);
+        closed.clear();
+        for (int i = 0; i < 3; i++) {
+            closed.add(issueRepository.save(new Issue("Closed " + i, "done", Difficulty.HARD, IssueStatus.CLOSED, developer)));
+        }
+        open = issueRepository.save(new Issue("Open", "todo", Difficulty.HARD, IssueStatus.OPEN, developer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        archivedIssueRepository.deleteAll();
+        issueRepository.deleteAll();
+    }
+
+    @Test
+    void movesOnlyClosedIssuesOlderThanTheCutoff() {
+        assertEquals(0, archiveService.archiveOlderThan(LocalDateTime.now().minusDays(1)));
+
+        assertEquals(3, archiveService.archiveOlderThan(LocalDateTime.now().plusSeconds(1)));
+
+        assertEquals(List.of(open.getId()), issueRepository.findAll().stream().map(Issue::getId).toList());
+        assertEquals(3, archivedIssueRepository.count());
+    }
+
+    @Test
+    void readsFallThroughToTheArchive() {
+        archiveService.archiveOlderThan(LocalDateTime.now().plusSeconds(1));
+
+        IssueView archived = archiveService.findById(closed.get(1).getId()).orElseThrow();
+        assertEquals("Closed 1", archived.getTitle());
+        assertEquals("archive-dev", archived.getAssignedTo().getUsername());
+
+        var batch = archiveService.findByIds(List.of(closed.get(2).getId(), -1L, open.getId()));
+        assertEquals(List.of(closed.get(2).getId(), open.getId()), batch.getItems().stream().map(IssueView::getId).toList());
+        assertEquals(List.of(-1L), batch.getMissing());
+    }
+
+    @Test
+    void closedFilterPagesAcrossBothTables() {
+        archiveService.archiveOlderThan(LocalDateTime.now().plusSeconds(1));
+        Issue recentlyClosed = issueRepository.save(new Issue("Closed 3", "done", Difficulty.HARD, IssueStatus.CLOSED, null));
+
+        Page<IssueView> first = archiveService.findClosed(null, PageRequest.of(0, 2));
+        Page<IssueView> second = archiveService.findClosed(Difficulty.HARD, PageRequest.of(1, 2));
+
+        assertEquals(4, first.getTotalElements());
+        assertEquals(List.of(recentlyClosed.getId(), closed.get(0).getId()), first.map(IssueView::getId).getContent());
+        assertEquals(List.of(closed.get(1).getId(), closed.get(2).getId()), second.map(IssueView::getId).getContent());
+    }
+
+    @Test
+    void sparseFieldsetReadsFallThroughToTheArchive() {
+        archiveService.archiveOlderThan(LocalDateTime.now().plusSeconds(1));
+        Issue recentlyClosed = issueRepository.save(new Issue("Closed 3", "done", Difficulty.HARD, IssueStatus.CLOSED, null));
+
+        Map<String, Object> archived = archiveService.findFieldsById(closed.get(1).getId(), "title,assignedTo").orElseThrow();
+        assertEquals("Closed 1", archived.get("title"));
+        assertEquals("archive-dev", ((Map<?, ?>) archived.get("assignedTo")).get("username"));
+        assertTrue(archiveService.findFieldsById(-1L, "title").isEmpty());
+
+        var batch = archiveService.findFieldsByIds(List.of(closed.get(2).getId(), -1L, open.getId()), "title");
+        assertEquals(List.of(closed.get(2).getId(), open.getId()), batch.getItems().stream().map(row -> row.get("id")).toList());
+        assertEquals(List.of(-1L), batch.getMissing());
+
+        Page<Map<String, Object>> first = archiveService.findClosedFields(null, PageRequest.of(0, 2), "title");
+        Page<Map<String, Object>> second = archiveService.findClosedFields(Difficulty.HARD, PageRequest.of(1, 2), "title");
+        assertEquals(4, first.getTotalElements());
+        assertEquals(List.of(recentlyClosed.getId(), closed.get(0).getId()), first.map(row -> row.get("id")).getContent());
+        assertEquals(List.of("Closed 1", "Closed 2"), second.map(row -> row.get("title")).getContent());
+    }
+}
@@ -0,0 +1,198 @@
+package com.devvault.service;
+
+import com.devvault.dto.BulkIssueRequest;
+import com.devvault.dto.FilterPage;
+import com.devvault.model.CountStrategy;
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.repository.ArchivedIssueRepository;
+import com.devvault.repository.IssueRepository;
+import com.devvault.repository.UserRepository;
+import com.devvault.security.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.devvault.TestUsers.bearer;
+import static com.devvault.TestUsers.findOrCreate;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IssueCountServiceTests {
+
+    @Autowired
+    private IssueCountService countService;
+
+    @Autowired
+    private BulkIssueService bulkIssueService;
+
+    @Autowired
+    private IssueArchiveService archiveService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ArchivedIssueRepository archivedIssueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<Issue> issues = new ArrayList<>();
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        archivedIssueRepository.deleteAll();
+        issueRepository.deleteAll();
+        User admin = findOrCreate(userRepository, "count-admin", Role.ADMIN);
+        adminToken = bearer(jwtUtil, admin);
+        issues.clear();
+        for (int i = 0; i < 6; i++) {
+            issues.add(issueRepository.save(new Issue("Issue " + i, "Description " + i,
+                    i % 2 == 0 ? Difficulty.EASY : Difficulty.HARD,
+                    i < 4 ? IssueStatus.OPEN : IssueStatus.CLOSED, admin)));
+        }
+        // fixtures went around the write hooks
+        countService.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        archivedIssueRepository.deleteAll();
+        issueRepository.deleteAll();
+    }
+
+    @Test
+    void cachedCountsFollowSingleWrites() throws Exception {
+        mockMvc.perform(post("/issues").header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON).content(issueJson("EASY", "CLAIMED")))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/issues/{id}", issues.get(0).getId()).header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON).content(issueJson("HARD", "CLOSED")))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/issues/{issueId}/assign/{userId}", issues.get(1).getId(),
+                        issues.get(1).getAssignedTo().getId()).header("Authorization", adminToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/issues/{id}", issues.get(2).getId()).header("Authorization", adminToken))
+                .andExpect(status().isOk());
+
+        assertCachedMatchesExact();
+        assertEquals(1, countService.count(IssueStatus.OPEN, null, CountStrategy.CACHED).count());
+        assertEquals(2, countService.count(IssueStatus.CLOSED, Difficulty.HARD, CountStrategy.CACHED).count());
+    }
+
+    @Test
+    void cachedCountsFollowBulkChangesAndArchiving() {
+        BulkIssueRequest close = new BulkIssueRequest();
+        close.setIds(List.of(issues.get(0).getId(), issues.get(1).getId()));
+        close.setStatus(IssueStatus.CLOSED);
+        bulkIssueService.changeStatus(close, "count-admin@devvault.test");
+        assertCachedMatchesExact();
+
+        BulkIssueRequest delete = new BulkIssueRequest();
+        delete.setIds(List.of(issues.get(2).getId(), issues.get(4).getId()));
+        bulkIssueService.delete(delete, "count-admin@devvault.test");
+        assertCachedMatchesExact();
+
+        archiveService.archiveOlderThan(LocalDateTime.now().plusSeconds(1));
+        assertCachedMatchesExact();
+        assertEquals(0, countService.count(IssueStatus.CLOSED, null, CountStrategy.CACHED).count());
+        assertEquals(3, countService.countArchived(null, CountStrategy.CACHED).count());
+        assertEquals(2, countService.countArchived(Difficulty.HARD, CountStrategy.CACHED).count());
+    }
+
+    @Test
+    void shortPagesNeedNoCount() {
+        FilterPage<String> first = countService.page(List.of("a", "b"), PageRequest.of(0, 5), IssueStatus.OPEN, null,
+                CountStrategy.ESTIMATED);
+        FilterPage<String> last = countService.page(List.of("a"), PageRequest.of(2, 5), null, null, CountStrategy.CACHED);
+
+        assertEquals(2, first.getTotalElements());
+        assertFalse(first.isTotalApproximate());
+        assertEquals(11, last.getTotalElements());
+    }
+
+    @Test
+    void fullPagesNeverReportFewerIssuesThanTheyShow() {
+        // the cached total (4 OPEN) is below what the caller has already seen on page 2
+        FilterPage<String> page = countService.page(List.of("a", "b", "c"), PageRequest.of(2, 3), IssueStatus.OPEN, null,
+                CountStrategy.CACHED);
+
+        assertEquals(9, page.getTotalElements());
+    }
+
+    @Test
+    void estimatesFallBackToCachedCountsWithoutPostgres() {
+        IssueCountService.Total total = countService.count(IssueStatus.OPEN, Difficulty.EASY, CountStrategy.ESTIMATED);
+
+        assertEquals(2, total.count());
+        assertTrue(total.approximate());
+    }
+
+    @Test
+    void filterEndpointTakesTheStrategy() throws Exception {
+        mockMvc.perform(get("/issues/filter").param("status", "OPEN").param("size", "2").param("count", "cached")
+                        .header("Authorization", adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(4))
+                .andExpect(jsonPath("$.totalApproximate").value(true))
+                .andExpect(jsonPath("$.content.length()").value(2));
+        mockMvc.perform(get("/issues/filter").param("status", "CLOSED").param("count", "estimated")
+                        .header("Authorization", adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void unknownFilterValuesAreBadRequests() throws Exception {
+        for (String param : List.of("status", "difficulty", "count")) {
+            mockMvc.perform(get("/issues/filter").param(param, "bogus").header("Authorization", adminToken))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private void assertCachedMatchesExact() {
+        for (IssueStatus status : IssueStatus.values()) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                assertEquals(countService.count(status, difficulty, CountStrategy.EXACT).count(),
+                        countService.count(status, difficulty, CountStrategy.CACHED).count(), status + "/" + difficulty);
+            }
+        }
+        for (Difficulty difficulty : Difficulty.values()) {
+            assertEquals(countService.countArchived(difficulty, CountStrategy.EXACT).count(),
+                    countService.countArchived(difficulty, CountStrategy.CACHED).count(), "archived/" + difficulty);
+        }
+    }
+
+    private static String issueJson(String difficulty, String status) {
+        return """
+                {"title": "Counted", "description": "Some description", "difficulty": "%s", "status": "%s"}
+                """.formatted(difficulty, status);
+    }
+}
@@ -0,0 +1,69 @@
+package com.devvault.service;
+
+import com.devvault.model.Difficulty;
+import com.devvault.model.IssueStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.devvault.model.Difficulty.*;
+import static com.devvault.model.IssueStatus.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IssueCountersTests {
+
+    private final IssueCountService.Counters counters = IssueCountService.Counters.load(
+            List.of(row(OPEN, EASY, 3), row(OPEN, HARD, 2), row(CLAIMED, EASY, 1), row(CLOSED, MEDIUM, 4)),
+            List.<Object[]>of(new Object[] {HARD, 7L}, new Object[] {EASY, 1L}));
+
+    @Test
+    void sumsTheBucketsMatchingTheFilter() {
+        assertEquals(10, counters.live(null, null));
+        assertEquals(5, counters.live(OPEN, null));
+        assertEquals(4, counters.live(null, EASY));
+        assertEquals(2, counters.live(OPEN, HARD));
+        assertEquals(0, counters.live(CLAIMED, HARD));
+        assertEquals(8, counters.archived(null));
+        assertEquals(7, counters.archived(HARD));
+        assertEquals(0, counters.archived(MEDIUM));
+    }
+
+    @Test
+    void singleMovesChangeOneBucketEach() {
+        counters.moved(null, null, OPEN, MEDIUM);
+        counters.moved(OPEN, EASY, CLAIMED, EASY);
+        counters.moved(CLOSED, MEDIUM, null, null);
+
+        assertEquals(10, counters.live(null, null));
+        assertEquals(1, counters.live(OPEN, MEDIUM));
+        assertEquals(2, counters.live(OPEN, EASY));
+        assertEquals(2, counters.live(CLAIMED, EASY));
+        assertEquals(3, counters.live(CLOSED, MEDIUM));
+    }
+
+    @Test
+    void bulkMovesKeepTheDifficultyAndSkipRowsAlreadyThere() {
+        counters.bulkMoved(List.<Object[]>of(row(OPEN, EASY, 3), row(OPEN, HARD, 1), row(CLOSED, MEDIUM, 4)), CLOSED);
+
+        assertEquals(1, counters.live(OPEN, null));
+        assertEquals(3, counters.live(CLOSED, EASY));
+        assertEquals(1, counters.live(CLOSED, HARD));
+        assertEquals(4, counters.live(CLOSED, MEDIUM));
+
+        counters.bulkMoved(List.<Object[]>of(row(CLOSED, HARD, 1)), null);
+        assertEquals(9, counters.live(null, null));
+    }
+
+    @Test
+    void archivingMovesClosedIssuesToTheArchive() {
+        counters.archiving(List.<Object[]>of(row(CLOSED, MEDIUM, 3)));
+
+        assertEquals(1, counters.live(CLOSED, null));
+        assertEquals(3, counters.archived(MEDIUM));
+        assertEquals(11, counters.archived(null));
+    }
+
+    private static Object[] row(IssueStatus status, Difficulty difficulty, long count) {
+        return new Object[] {status, difficulty, count};
+    }
+}
@@ -0,0 +1,159 @@
+package com.devvault.service;
+
+import com.devvault.model.LeaderboardWindow;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.repository.UserRepository;
+import com.devvault.security.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.devvault.TestUsers.bearer;
+import static com.devvault.TestUsers.findOrCreate;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The cache is off in the test profile (contexts share the database); this context has its own
+@SpringBootTest(properties = "devvault.cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserCacheServiceTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCacheService userCacheService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Statistics statistics;
+    private User admin;
+    private User developer;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        admin = findOrCreate(userRepository, "cache-admin", Role.ADMIN);
+        developer = findOrCreate(userRepository, "cache-dev", Role.DEVELOPER);
+        adminToken = bearer(jwtUtil, admin);
+    }
+
+    @Test
+    void repeatedLookupsByEmailAndIdRunNoQuery() {
+        userRepository.findByEmail(developer.getEmail()).orElseThrow();
+        userRepository.findById(developer.getId()).orElseThrow();
+
+        statistics.clear();
+        assertEquals(developer.getId(), userRepository.findByEmail(developer.getEmail()).orElseThrow().getId());
+        assertEquals(developer.getUsername(), userRepository.findById(developer.getId()).orElseThrow().getUsername());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void creditedPointsEvictTheUserAndTheLeaderboard() {
+        int before = userRepository.findById(developer.getId()).orElseThrow().getRewardPoints();
+        userRepository.findTop10ByOrderByRewardPointsDesc();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            userRepository.addRewardPoints(developer.getId(), 1000);
+            userCacheService.rewarded(developer.getId());
+        });
+
+        assertEquals(before + 1000, userRepository.findById(developer.getId()).orElseThrow().getRewardPoints());
+        User top = userRepository.findTop10ByOrderByRewardPointsDesc().get(0);
+        assertEquals(developer.getId(), top.getId());
+        assertEquals(before + 1000, top.getRewardPoints());
+        assertEquals(before + 1000, leaderboardService.getLeaderboard(LeaderboardWindow.ALL)
+                .get(0).getRewardPoints());
+    }
+
+    @Test
+    void updatedEmailIsNoLongerFoundUnderTheOldOne() throws Exception {
+        String oldEmail = developer.getEmail();
+        userRepository.findByEmail(oldEmail).orElseThrow();
+
+        mockMvc.perform(put("/users/{id}", developer.getId()).header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "cache-dev", "email": "cache-dev-renamed@devvault.test", "role": "DEVELOPER"}
+                                """))
+                .andExpect(status().isOk());
+
+        try {
+            assertTrue(userRepository.findByEmail(oldEmail).isEmpty());
+            assertEquals(developer.getId(),
+                    userRepository.findByEmail("cache-dev-renamed@devvault.test").orElseThrow().getId());
+        } finally {
+            User renamed = userRepository.findById(developer.getId()).orElseThrow();
+            renamed.setEmail(oldEmail);
+            userRepository.save(renamed);
+        }
+    }
+
+    @Test
+    void loginChecksThePasswordTheDatabaseHasNow() throws Exception {
+        userRepository.findByEmail(developer.getEmail()).orElseThrow();
+        // Changed behind this instance's cache, as by an update served elsewhere
+        jdbcTemplate.update("UPDATE users SET password = ? WHERE id = ?", passwordEncoder.encode("new-secret"),
+                developer.getId());
+
+        mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"%s\", \"password\": \"new-secret\"}".formatted(developer.getEmail())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isString());
+        mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"%s\", \"password\": \"not-a-real-hash\"}".formatted(developer.getEmail())))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void regionStatisticsArePublished() throws Exception {
+        userRepository.findById(developer.getId()).orElseThrow();
+        userRepository.findById(developer.getId()).orElseThrow();
+
+        mockMvc.perform(get("/actuator/l2cache").header("Authorization", adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.hits").isNumber())
+                .andExpect(jsonPath("$.users.hitRatio").isNumber())
+                .andExpect(jsonPath("$['users-by-email']").exists())
+                .andExpect(jsonPath("$.leaderboard").exists());
+    }
+}
@@ -0,0 +1,71 @@
+package com.devvault.service;
+
+import com.devvault.model.IssueStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.devvault.model.IssueStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Deltas are {open, claimed, closed} per user
+class UserDashboardDeltasTests {
+
+    @Test
+    void reassigningMovesTheIssueBetweenUsers() {
+        Map<Long, int[]> deltas = UserDashboardService.moveDeltas(1L, CLAIMED, 2L, CLAIMED);
+
+        assertEquals(2, deltas.size());
+        assertArrayEquals(new int[] {0, -1, 0}, deltas.get(1L));
+        assertArrayEquals(new int[] {0, 1, 0}, deltas.get(2L));
+    }
+
+    @Test
+    void statusChangeOfTheSameUserNetsInOneDelta() {
+        Map<Long, int[]> deltas = UserDashboardService.moveDeltas(1L, CLAIMED, 1L, CLOSED);
+
+        assertEquals(1, deltas.size());
+        assertArrayEquals(new int[] {0, -1, 1}, deltas.get(1L));
+    }
+
+    @Test
+    void unassignedSidesCountNothing() {
+        assertArrayEquals(new int[] {1, 0, 0}, UserDashboardService.moveDeltas(null, null, 1L, OPEN).get(1L));
+        assertArrayEquals(new int[] {0, 0, -1}, UserDashboardService.moveDeltas(1L, CLOSED, null, null).get(1L));
+        assertTrue(UserDashboardService.moveDeltas(null, OPEN, null, CLAIMED).isEmpty());
+    }
+
+    @Test
+    void bulkStatusChangeKeepsAssignees() {
+        Map<Long, int[]> deltas = UserDashboardService.bulkDeltas(List.of(
+                row(1L, OPEN, 2), row(1L, CLOSED, 3), row(2L, CLAIMED, 1), row(null, OPEN, 4)), null, CLOSED);
+
+        assertEquals(2, deltas.size());
+        assertArrayEquals(new int[] {-2, 0, 2}, deltas.get(1L));
+        assertArrayEquals(new int[] {0, -1, 1}, deltas.get(2L));
+    }
+
+    @Test
+    void bulkAssignMovesEveryRowToTheAssignee() {
+        Map<Long, int[]> deltas = UserDashboardService.bulkDeltas(List.of(
+                row(1L, OPEN, 2), row(null, OPEN, 3), row(2L, CLAIMED, 1)), 2L, CLAIMED);
+
+        assertEquals(2, deltas.size());
+        assertArrayEquals(new int[] {-2, 0, 0}, deltas.get(1L));
+        assertArrayEquals(new int[] {0, 5, 0}, deltas.get(2L));
+    }
+
+    @Test
+    void bulkDeleteOnlySubtracts() {
+        Map<Long, int[]> deltas = UserDashboardService.bulkDeltas(List.of(
+                row(1L, OPEN, 2), row(1L, CLAIMED, 1), row(null, CLOSED, 5)), null, null);
+
+        assertEquals(1, deltas.size());
+        assertArrayEquals(new int[] {-2, -1, 0}, deltas.get(1L));
+    }
+
+    private static Object[] row(Long userId, IssueStatus status, long count) {
+        return new Object[] {userId, status, count};
+    }
+}
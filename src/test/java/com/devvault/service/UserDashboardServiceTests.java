@@ -0,0 +1,172 @@
+package com.devvault.service;
+
+import com.devvault.dto.BulkIssueRequest;
+import com.devvault.dto.UserDashboardDTO;
+import com.devvault.model.Difficulty;
+import com.devvault.model.Issue;
+import com.devvault.model.IssueStatus;
+import com.devvault.model.Role;
+import com.devvault.model.User;
+import com.devvault.outbox.OutboxDispatcher;
+import com.devvault.repository.IssueRepository;
+import com.devvault.repository.OutboxEventRepository;
+import com.devvault.repository.UserIssueStatsRepository;
+import com.devvault.repository.UserRepository;
+import com.devvault.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.devvault.TestUsers.bearer;
+import static com.devvault.TestUsers.findOrCreate;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserDashboardServiceTests {
+
+    @Autowired
+    private UserDashboardService dashboardService;
+
+    @Autowired
+    private BulkIssueService bulkIssueService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserIssueStatsRepository statsRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User admin;
+    private User developer;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        issueRepository.deleteAll();
+        statsRepository.deleteAll();
+        admin = findOrCreate(userRepository, "dashboard-admin", Role.ADMIN);
+        developer = findOrCreate(userRepository, "dashboard-dev", Role.DEVELOPER);
+        adminToken = bearer(jwtUtil, admin);
+        dashboardService.evict(admin.getId());
+        dashboardService.evict(developer.getId());
+    }
+
+    @Test
+    void followsIssueWritesAndRewards() throws Exception {
+        long first = createIssue("First");
+        long second = createIssue("Second");
+        assertCounts(dashboard(), 0, 2, 0);
+        assertEquals(List.of(second, first), dashboard().getRecentIssues().stream()
+                .map(UserDashboardDTO.RecentIssue::id).toList());
+
+        mockMvc.perform(put("/issues/{id}", first).header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON).content(issueJson("First, done", "CLOSED")))
+                .andExpect(status().isOk());
+        UserDashboardDTO afterClose = dashboard();
+        assertCounts(afterClose, 0, 1, 1);
+        assertEquals("First, done", afterClose.getRecentIssues().get(1).title());
+        int pointsBefore = afterClose.getRewardPoints();
+
+        outboxDispatcher.drain();
+        assertEquals(pointsBefore + Difficulty.EASY.getReward(), dashboard().getRewardPoints());
+
+        mockMvc.perform(put("/issues/{issueId}/assign/{userId}", second, developer.getId())
+                        .header("Authorization", adminToken))
+                .andExpect(status().isOk());
+        assertCounts(dashboard(), 0, 0, 1);
+        assertCounts(dashboardService.getDashboard(developer.getEmail()), 0, 1, 0);
+
+        mockMvc.perform(delete("/issues/{id}", second).header("Authorization", adminToken))
+                .andExpect(status().isOk());
+        assertCounts(dashboardService.getDashboard(developer.getEmail()), 0, 0, 0);
+        assertTrue(dashboardService.getDashboard(developer.getEmail()).getRecentIssues().isEmpty());
+    }
+
+    @Test
+    void followsBulkChanges() {
+        List<Long> ids = List.of(
+                issueRepository.save(new Issue("A", "a", Difficulty.EASY, IssueStatus.OPEN, null)).getId(),
+                issueRepository.save(new Issue("B", "b", Difficulty.HARD, IssueStatus.OPEN, null)).getId(),
+                issueRepository.save(new Issue("C", "c", Difficulty.HARD, IssueStatus.OPEN, null)).getId());
+
+        BulkIssueRequest assign = new BulkIssueRequest();
+        assign.setIds(ids);
+        assign.setUserId(developer.getId());
+        bulkIssueService.assign(assign, admin.getEmail());
+        assertCounts(dashboardService.getDashboard(developer.getEmail()), 0, 3, 0);
+
+        BulkIssueRequest close = new BulkIssueRequest();
+        close.setIds(ids.subList(0, 2));
+        close.setStatus(IssueStatus.CLOSED);
+        bulkIssueService.changeStatus(close, admin.getEmail());
+        assertCounts(dashboardService.getDashboard(developer.getEmail()), 0, 1, 2);
+
+        BulkIssueRequest delete = new BulkIssueRequest();
+        delete.setIds(ids.subList(1, 3));
+        bulkIssueService.delete(delete, admin.getEmail());
+        assertCounts(dashboardService.getDashboard(developer.getEmail()), 0, 0, 1);
+    }
+
+    @Test
+    void unknownLeaderboardWindowIsBadRequest() throws Exception {
+        mockMvc.perform(get("/users/leaderboard").param("window", "yearly").header("Authorization", adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long createIssue(String title) throws Exception {
+        String body = mockMvc.perform(post("/issues").header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON).content(issueJson(title, "CLAIMED")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private UserDashboardDTO dashboard() throws Exception {
+        String body = mockMvc.perform(get("/users/me/dashboard").header("Authorization", adminToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, UserDashboardDTO.class);
+    }
+
+    private static void assertCounts(UserDashboardDTO dashboard, int open, int claimed, int closed) {
+        assertEquals(List.of(open, claimed, closed),
+                List.of(dashboard.getOpenIssues(), dashboard.getClaimedIssues(), dashboard.getClosedIssues()));
+    }
+
+    private static String issueJson(String title, String status) {
+        return """
+                {"title": "%s", "description": "Some description", "difficulty": "EASY", "status": "%s"}
+                """.formatted(title, status);
+    }
+}